@@ -0,0 +1,76 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar compared to Vector API {@link FigureAreaKernel}. The vector kernel is only available with the
+ * {@code vector} profile:
+ * {@code mvn -P benchmarks,vector test-compile exec:exec -Djmh.args="FigureAreaKernelBenchmark"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class FigureAreaKernelBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    @Param({"scalar", "vector"})
+    String kernelName;
+
+    FigureAreaKernel kernel;
+    double[] radii;
+    double[] widths;
+    double[] heights;
+    double[] out;
+
+    @Setup
+    public void setup() {
+        kernel = "vector".equals(kernelName) ? FigureAreaKernels.vector() : FigureAreaKernels.scalar();
+        if (kernel == null) {
+            throw new IllegalStateException("Vector kernel not available, build with -P benchmarks,vector");
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        radii = new double[size];
+        widths = new double[size];
+        heights = new double[size];
+        out = new double[size];
+        for (int i = 0; i < size; i++) {
+            if (random.nextBoolean()) {
+                radii[i] = random.nextDouble();
+            } else {
+                widths[i] = random.nextDouble();
+                heights[i] = random.nextDouble();
+            }
+        }
+    }
+
+    @Benchmark
+    public double[] areas() {
+        kernel.areas(radii, widths, heights, out, size);
+        return out;
+    }
+
+    @Benchmark
+    public double[] partsOfArea() {
+        kernel.partsOfArea(radii, widths, heights, out, size);
+        return out;
+    }
+}
@@ -0,0 +1,79 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Area computations over an {@link AreaCalculable}{@code []} (interface call per figure) compared to
+ * the columns of a {@link FigureBatch}.
+ * <p>
+ * Run with {@code mvn -P benchmarks test-compile exec:exec -Djmh.args="FigureBatchBenchmark"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FigureBatchBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    AreaCalculable[] figures;
+    FigureBatch batch;
+    double[] out;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        figures = new AreaCalculable[size];
+        for (int i = 0; i < size; i++) {
+            figures[i] = random.nextBoolean()
+                    ? new Circle(random.nextDouble())
+                    : new Rectangle(random.nextDouble(), random.nextDouble());
+        }
+        batch = FigureBatch.of(figures);
+        out = new double[size];
+    }
+
+    @Benchmark
+    public double totalAreaObjects() {
+        double sum = 0;
+        for (AreaCalculable figure : figures) {
+            sum += figure.getArea();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double totalAreaBatch() {
+        return batch.totalArea();
+    }
+
+    @Benchmark
+    public double[] areasObjects() {
+        for (int i = 0; i < figures.length; i++) {
+            out[i] = figures[i].getArea();
+        }
+        return out;
+    }
+
+    @Benchmark
+    public double[] areasBatch() {
+        batch.areas(out);
+        return out;
+    }
+}
@@ -0,0 +1,228 @@
+package homework._2025_09_08__exceptions;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ArrayListPositive} ({@code checkType} plus boxing) compared to a plain {@link ArrayList},
+ * {@link IntArrayListPositive} and a raw {@code int[]}. Every benchmark fills or reads {@code size} values;
+ * the {@code addAtIndex} ones get a list already filled in an untimed setup and insert {@value #INSERTS} values
+ * in the middle, so that every insert shifts half of the elements (all of them would take quadratic time for
+ * large sizes).
+ * <p>
+ * Run with {@code mvn -P benchmarks test-compile exec:exec -Djmh.args="ArrayListPositiveBenchmark"};
+ * the GC profiler is enabled by default, so the allocation rate is reported next to the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayListPositiveBenchmark {
+    static final int INSERTS = 1_000;
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    int[] values;
+    List<Integer> boxedValues;
+    ArrayListPositive<Integer> filledPositive;
+    ArrayList<Integer> filledArrayList;
+    IntArrayListPositive filledIntList;
+
+    /**
+     * Fresh lists holding {@code size} values with room for the inserts, built before every call of an
+     * {@code addAtIndex} benchmark, so that neither the bulk fill nor {@code checkType} is part of the timing.
+     */
+    @State(Scope.Thread)
+    public static class Filled {
+        ArrayListPositive<Integer> positive;
+        ArrayList<Integer> arrayList;
+        IntArrayListPositive intList;
+        int[] intArray;
+
+        @Setup(Level.Invocation)
+        public void fill(ArrayListPositiveBenchmark benchmark) {
+            int size = benchmark.size;
+            positive = new ArrayListPositive<>(size + INSERTS);
+            positive.addAll(benchmark.boxedValues);
+            arrayList = new ArrayList<>(size + INSERTS);
+            arrayList.addAll(benchmark.boxedValues);
+            intList = new IntArrayListPositive(size + INSERTS);
+            intList.addAll(benchmark.values);
+            intArray = new int[size + INSERTS];
+            System.arraycopy(benchmark.values, 0, intArray, 0, size);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        values = new int[size];
+        boxedValues = new ArrayList<>(size);
+        filledPositive = new ArrayListPositive<>(size);
+        filledArrayList = new ArrayList<>(size);
+        filledIntList = new IntArrayListPositive(size);
+        for (int i = 0; i < size; i++) {
+            values[i] = 1 + (i * 31) % 1_000_000;
+            boxedValues.add(values[i]);
+            filledPositive.add(values[i]);
+            filledArrayList.add(values[i]);
+            filledIntList.addInt(values[i]);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> addArrayListPositive() {
+        ArrayListPositive<Integer> list = new ArrayListPositive<>();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> addArrayList() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayListPositive addIntArrayListPositive() {
+        IntArrayListPositive list = new IntArrayListPositive();
+        for (int value : values) {
+            list.addInt(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public int[] addIntArray() {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = values[i];
+        }
+        return array;
+    }
+
+    @Benchmark
+    public List<Integer> addAtIndexArrayListPositive(Filled filled) {
+        ArrayListPositive<Integer> list = filled.positive;
+        for (int i = 0; i < INSERTS; i++) {
+            list.add(list.size() / 2, values[i % size]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> addAtIndexArrayList(Filled filled) {
+        ArrayList<Integer> list = filled.arrayList;
+        for (int i = 0; i < INSERTS; i++) {
+            list.add(list.size() / 2, values[i % size]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayListPositive addAtIndexIntArrayListPositive(Filled filled) {
+        IntArrayListPositive list = filled.intList;
+        for (int i = 0; i < INSERTS; i++) {
+            list.addInt(list.size() / 2, values[i % size]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public int[] addAtIndexIntArray(Filled filled) {
+        int[] array = filled.intArray;
+        int length = size;
+        for (int i = 0; i < INSERTS; i++) {
+            int index = length / 2;
+            System.arraycopy(array, index, array, index + 1, length - index);
+            array[index] = values[i % size];
+            length++;
+        }
+        return array;
+    }
+
+    @Benchmark
+    public List<Integer> addAllArrayListPositive() {
+        ArrayListPositive<Integer> list = new ArrayListPositive<>();
+        list.addAll(boxedValues);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> addAllArrayList() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addAll(boxedValues);
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayListPositive addAllIntArrayListPositive() {
+        IntArrayListPositive list = new IntArrayListPositive();
+        list.addAll(values);
+        return list;
+    }
+
+    @Benchmark
+    public int[] addAllIntArray() {
+        int[] array = new int[size];
+        System.arraycopy(values, 0, array, 0, size);
+        return array;
+    }
+
+    @Benchmark
+    public long iterateArrayListPositive() {
+        long sum = 0;
+        for (Integer value : filledPositive) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateArrayList() {
+        long sum = 0;
+        for (Integer value : filledArrayList) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateIntArrayListPositive() {
+        long sum = 0;
+        for (int i = 0; i < filledIntList.size(); i++) {
+            sum += filledIntList.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateIntArray() {
+        long sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,126 @@
+package examples._2025_08_07__binary_search;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Comparator decorator which counts comparisons, a cheap alternative to {@link LoggerComparator} for measuring
+ * sorts and searches: {@code Arrays.sort(array, instrumented)}, {@code Arrays.binarySearch(array, key, instrumented)},
+ * also with wrapped comparators like {@code OSVersionComparator} or {@code Comparator.reverseOrder()} for persons.
+ * <p>
+ * Every comparison only increments a {@link LongAdder} (striped, so also parallel sorts do not contend on one
+ * counter). Optionally every n-th comparison on average is timed with {@link System#nanoTime()}; the total
+ * cost is then estimated from the sampled ones, so the timing itself does not slow down the sort noticeably.
+ * <p>
+ * {@link #reset()} returns the numbers since the previous reset, so one instance can report run by run.
+ */
+public class InstrumentedComparator<T> implements Comparator<T> {
+    private final Comparator<? super T> delegate;
+    private final int sampleMask;
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder sampledNanos = new LongAdder();
+
+    private InstrumentedComparator(Comparator<? super T> delegate, int sampleMask) {
+        this.delegate = delegate;
+        this.sampleMask = sampleMask;
+    }
+
+    /**
+     * Only counts comparisons.
+     */
+    public static <T> InstrumentedComparator<T> of(Comparator<? super T> delegate) {
+        return new InstrumentedComparator<>(delegate, -1);
+    }
+
+    /**
+     * Counts comparisons and times about one of every {@code sampleInterval} of them.
+     *
+     * @param sampleInterval a power of two; 1 times every comparison
+     */
+    public static <T> InstrumentedComparator<T> of(Comparator<? super T> delegate, int sampleInterval) {
+        if (sampleInterval <= 0 || Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException("Sample interval must be a power of two: " + sampleInterval);
+        }
+        return new InstrumentedComparator<>(delegate, sampleInterval - 1);
+    }
+
+    public static <T extends Comparable<? super T>> InstrumentedComparator<T> naturalOrder() {
+        return of(Comparator.<T>naturalOrder());
+    }
+
+    public static <T extends Comparable<? super T>> InstrumentedComparator<T> naturalOrder(int sampleInterval) {
+        return of(Comparator.<T>naturalOrder(), sampleInterval);
+    }
+
+    @Override
+    public int compare(T o1, T o2) {
+        comparisons.increment();
+        if (sampleMask < 0 || (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return delegate.compare(o1, o2);
+        }
+
+        long start = System.nanoTime();
+        int result = delegate.compare(o1, o2);
+        sampledNanos.add(System.nanoTime() - start);
+        sampled.increment();
+        return result;
+    }
+
+    /**
+     * Numbers since the last reset.
+     */
+    public Report report() {
+        return new Report(comparisons.sum(), sampled.sum(), sampledNanos.sum());
+    }
+
+    /**
+     * Numbers since the last reset; starts a new run. Comparisons running at the same time may count
+     * for either run.
+     */
+    public Report reset() {
+        return new Report(comparisons.sumThenReset(), sampled.sumThenReset(), sampledNanos.sumThenReset());
+    }
+
+    public static final class Report {
+        private final long comparisons;
+        private final long sampled;
+        private final long sampledNanos;
+
+        Report(long comparisons, long sampled, long sampledNanos) {
+            this.comparisons = comparisons;
+            this.sampled = sampled;
+            this.sampledNanos = sampledNanos;
+        }
+
+        public long getComparisons() {
+            return comparisons;
+        }
+
+        public long getSampledComparisons() {
+            return sampled;
+        }
+
+        /**
+         * Average time of a sampled comparison, or {@code NaN} without samples.
+         */
+        public double getAverageNanos() {
+            return sampled == 0 ? Double.NaN : (double) sampledNanos / sampled;
+        }
+
+        /**
+         * Estimated time spent in all comparisons, or {@code NaN} without samples.
+         */
+        public double getEstimatedNanos() {
+            return getAverageNanos() * comparisons;
+        }
+
+        @Override
+        public String toString() {
+            if (sampled == 0) return comparisons + " comparisons";
+            return String.format("%d comparisons, %.1f ns each (%d sampled), ~%.3f ms total",
+                    comparisons, getAverageNanos(), sampled, getEstimatedNanos() / 1_000_000);
+        }
+    }
+}
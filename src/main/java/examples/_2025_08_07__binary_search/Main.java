@@ -1,6 +1,7 @@
 package examples._2025_08_07__binary_search;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 
 class LoggerComparator implements Comparator<Integer> {
@@ -39,5 +40,12 @@ public class Main {
         result = Arrays.binarySearch(arr, 296, comparator);
         if (result > 0) System.out.println("Element found at index: " + result);
 
+        System.out.println("Counting comparisons");
+        InstrumentedComparator<Integer> instrumented = InstrumentedComparator.naturalOrder(8);
+        Collections.shuffle(Arrays.asList(arr));
+        Arrays.sort(arr, instrumented);
+        System.out.println("Sort: " + instrumented.reset());
+        Arrays.binarySearch(arr, 296, instrumented);
+        System.out.println("Binary search: " + instrumented.reset());
     }
 }
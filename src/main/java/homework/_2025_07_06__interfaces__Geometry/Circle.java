@@ -1,16 +1,67 @@
 package homework._2025_07_06__interfaces__Geometry;
 
-class Circle implements AreaCalculable {
+/**
+ * Position ({@link #getX()}, {@link #getY()}) is the center.
+ */
+class Circle implements AreaCalculable, Placed {
     private final double radius;
+    private double x;
+    private double y;
 
     public Circle(double radius) {
         this.radius = radius;
     }
 
+    public Circle(double x, double y, double radius) {
+        this.radius = radius;
+        this.x = x;
+        this.y = y;
+    }
+
     public double getArea() {
         return Math.PI * radius * radius;
     }
 
+    double getRadius() {
+        return radius;
+    }
+
+    @Override
+    public double getX() {
+        return x;
+    }
+
+    @Override
+    public double getY() {
+        return y;
+    }
+
+    @Override
+    public void moveTo(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public double getMinX() {
+        return x - radius;
+    }
+
+    @Override
+    public double getMinY() {
+        return y - radius;
+    }
+
+    @Override
+    public double getMaxX() {
+        return x + radius;
+    }
+
+    @Override
+    public double getMaxY() {
+        return y + radius;
+    }
+
     @Override
     public String toString() {
         return "Kreis [" + this.hashCode() + "] mit Radius " + radius;
@@ -0,0 +1,16 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+/**
+ * Computes the areas of whole {@link FigureBatch} columns: {@code PI * radius * radius + width * height}
+ * for every position below {@code size}.
+ *
+ * @see FigureAreaKernels
+ */
+interface FigureAreaKernel {
+    void areas(double[] radii, double[] widths, double[] heights, double[] out, int size);
+
+    /**
+     * Half of every area, like {@link AreaCalculable#getPartOfArea()}.
+     */
+    void partsOfArea(double[] radii, double[] widths, double[] heights, double[] out, int size);
+}
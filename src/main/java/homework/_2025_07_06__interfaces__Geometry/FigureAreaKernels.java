@@ -0,0 +1,55 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+/**
+ * Chooses the {@link FigureAreaKernel} used by {@link FigureBatch}.
+ * <p>
+ * The SIMD kernel {@code VectorFigureAreaKernel} uses the incubator module {@code jdk.incubator.vector}. It lives in
+ * {@code src/vector/java} and is only compiled with the {@code vector} profile (JDK 17+), so it is loaded by name.
+ * It is used if the JVM is started with {@code -Dgeometry.vector=true --add-modules jdk.incubator.vector};
+ * if the class or the module is missing, the scalar kernel is used.
+ */
+final class FigureAreaKernels {
+    static final String VECTOR_PROPERTY = "geometry.vector";
+
+    private static final String VECTOR_KERNEL = "homework._2025_07_06__interfaces__Geometry.VectorFigureAreaKernel";
+
+    private FigureAreaKernels() {
+    }
+
+    static FigureAreaKernel scalar() {
+        return ScalarFigureAreaKernel.INSTANCE;
+    }
+
+    /**
+     * @return the SIMD kernel, or {@code null} if it is not available in this build or JVM
+     */
+    static FigureAreaKernel vector() {
+        return load(VECTOR_KERNEL);
+    }
+
+    /**
+     * @return a new instance of the kernel class, or {@code null} if the class or one it needs can not be loaded
+     */
+    static FigureAreaKernel load(String className) {
+        try {
+            return (FigureAreaKernel) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * The SIMD kernel if {@value #VECTOR_PROPERTY} is set and it is available, otherwise the scalar one.
+     */
+    static FigureAreaKernel selected() {
+        return select(Boolean.getBoolean(VECTOR_PROPERTY), VECTOR_KERNEL);
+    }
+
+    static FigureAreaKernel select(boolean useVector, String vectorClassName) {
+        if (useVector) {
+            FigureAreaKernel vector = load(vectorClassName);
+            if (vector != null) return vector;
+        }
+        return scalar();
+    }
+}
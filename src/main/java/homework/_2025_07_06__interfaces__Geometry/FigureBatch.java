@@ -0,0 +1,251 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import java.util.Arrays;
+
+/**
+ * Figures stored column by column ("structure of arrays") instead of as {@link AreaCalculable} objects.
+ * <p>
+ * Every figure has a kind and a value in each of the primitive columns radius, width and height; the columns
+ * which do not belong to the kind are 0. That way the area of every figure is
+ * {@code PI * radius * radius + width * height} and the bulk operations are branch-free loops over plain
+ * {@code double[]}s which the JIT can unroll and vectorize, without pointer chasing and interface calls.
+ * <p>
+ * The position ({@link Placed#getX()}, {@link Placed#getY()}) is kept in two more columns, so that
+ * {@link #get(int)} recreates the figure where it was; the area operations do not read them.
+ * <p>
+ * Not thread-safe.
+ */
+class FigureBatch {
+    static final byte CIRCLE = 0;
+    static final byte RECTANGLE = 1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final FigureAreaKernel KERNEL = FigureAreaKernels.selected();
+
+    private byte[] kinds;
+    private double[] radii;
+    private double[] widths;
+    private double[] heights;
+    private double[] xs;
+    private double[] ys;
+    private int size;
+
+    FigureBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    FigureBatch(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        kinds = new byte[initialCapacity];
+        radii = new double[initialCapacity];
+        widths = new double[initialCapacity];
+        heights = new double[initialCapacity];
+        xs = new double[initialCapacity];
+        ys = new double[initialCapacity];
+    }
+
+    static FigureBatch of(AreaCalculable... figures) {
+        FigureBatch batch = new FigureBatch(figures.length);
+        for (AreaCalculable figure : figures) {
+            batch.add(figure);
+        }
+        return batch;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the figure is neither a {@link Circle} nor a {@link Rectangle}
+     */
+    void add(AreaCalculable figure) {
+        if (figure instanceof Circle) {
+            Circle circle = (Circle) figure;
+            addCircle(circle.getX(), circle.getY(), circle.getRadius());
+        } else if (figure instanceof Rectangle) {
+            Rectangle rectangle = (Rectangle) figure;
+            addRectangle(rectangle.getX(), rectangle.getY(), rectangle.getWidth(), rectangle.getHeight());
+        } else {
+            throw new IllegalArgumentException("Unsupported figure: " + figure);
+        }
+    }
+
+    void addCircle(double radius) {
+        addCircle(0, 0, radius);
+    }
+
+    /**
+     * @param x x coordinate of the center
+     * @param y y coordinate of the center
+     */
+    void addCircle(double x, double y, double radius) {
+        append(CIRCLE, x, y, radius, 0, 0);
+    }
+
+    void addRectangle(double width, double height) {
+        addRectangle(0, 0, width, height);
+    }
+
+    /**
+     * @param x x coordinate of the lower left corner
+     * @param y y coordinate of the lower left corner
+     */
+    void addRectangle(double x, double y, double width, double height) {
+        append(RECTANGLE, x, y, 0, width, height);
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte kind(int index) {
+        checkIndex(index);
+        return kinds[index];
+    }
+
+    double area(int index) {
+        checkIndex(index);
+        return Math.PI * radii[index] * radii[index] + widths[index] * heights[index];
+    }
+
+    double x(int index) {
+        checkIndex(index);
+        return xs[index];
+    }
+
+    double y(int index) {
+        checkIndex(index);
+        return ys[index];
+    }
+
+    /**
+     * Creates the figure object at the given index, placed at its stored position.
+     */
+    AreaCalculable get(int index) {
+        checkIndex(index);
+        return kinds[index] == CIRCLE
+                ? new Circle(xs[index], ys[index], radii[index])
+                : new Rectangle(xs[index], ys[index], widths[index], heights[index]);
+    }
+
+    AreaCalculable[] toArray() {
+        AreaCalculable[] figures = new AreaCalculable[size];
+        for (int i = 0; i < size; i++) {
+            figures[i] = get(i);
+        }
+        return figures;
+    }
+
+    /**
+     * Writes the area of every figure into {@code out}, which must have room for {@link #size()} values.
+     *
+     * @see FigureAreaKernels
+     */
+    void areas(double[] out) {
+        checkOut(out);
+        KERNEL.areas(radii, widths, heights, out, size);
+    }
+
+    /**
+     * Writes {@link AreaCalculable#getPartOfArea()} of every figure into {@code out}.
+     */
+    void partsOfArea(double[] out) {
+        checkOut(out);
+        KERNEL.partsOfArea(radii, widths, heights, out, size);
+    }
+
+    /**
+     * Sum of all areas. Four independent partial sums keep the additions from waiting on each other,
+     * so the result can differ from a sequential sum in the last bits.
+     */
+    double totalArea() {
+        double[] r = radii;
+        double[] w = widths;
+        double[] h = heights;
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i + 3 < size; i += 4) {
+            s0 += Math.PI * r[i] * r[i] + w[i] * h[i];
+            s1 += Math.PI * r[i + 1] * r[i + 1] + w[i + 1] * h[i + 1];
+            s2 += Math.PI * r[i + 2] * r[i + 2] + w[i + 2] * h[i + 2];
+            s3 += Math.PI * r[i + 3] * r[i + 3] + w[i + 3] * h[i + 3];
+        }
+        for (; i < size; i++) {
+            s0 += Math.PI * r[i] * r[i] + w[i] * h[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    double totalPartOfArea() {
+        return totalArea() * 0.5;
+    }
+
+    /**
+     * Grows the batch to {@code size} figures (new ones are empty circles at the origin), so that the figures can be
+     * filled in by position, e.g. by several threads working on disjoint ranges with {@link #setCircle}
+     * and {@link #setRectangle}.
+     */
+    void resize(int size) {
+        if (size < this.size) {
+            throw new IllegalArgumentException("Cannot shrink from " + this.size + " to " + size);
+        }
+        if (size > kinds.length) {
+            kinds = Arrays.copyOf(kinds, size);
+            radii = Arrays.copyOf(radii, size);
+            widths = Arrays.copyOf(widths, size);
+            heights = Arrays.copyOf(heights, size);
+            xs = Arrays.copyOf(xs, size);
+            ys = Arrays.copyOf(ys, size);
+        }
+        this.size = size;
+    }
+
+    void setCircle(int index, double radius) {
+        set(index, CIRCLE, radius, 0, 0);
+    }
+
+    void setRectangle(int index, double width, double height) {
+        set(index, RECTANGLE, 0, width, height);
+    }
+
+    /**
+     * Replaces the shape at {@code index}; the position stays.
+     */
+    private void set(int index, byte kind, double radius, double width, double height) {
+        checkIndex(index);
+        kinds[index] = kind;
+        radii[index] = radius;
+        widths[index] = width;
+        heights[index] = height;
+    }
+
+    private void append(byte kind, double x, double y, double radius, double width, double height) {
+        if (size == kinds.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            kinds = Arrays.copyOf(kinds, capacity);
+            radii = Arrays.copyOf(radii, capacity);
+            widths = Arrays.copyOf(widths, capacity);
+            heights = Arrays.copyOf(heights, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        kinds[size] = kind;
+        xs[size] = x;
+        ys[size] = y;
+        radii[size] = radius;
+        widths[size] = width;
+        heights[size] = height;
+        size++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkOut(double[] out) {
+        if (out.length < size) {
+            throw new IllegalArgumentException("Output array too small: " + out.length + " < " + size);
+        }
+    }
+}
@@ -0,0 +1,482 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Uniform grid spatial index over {@link Placed} figures.
+ * <p>
+ * The plane is divided into square cells of {@code cellSize}; a figure is registered in every cell its bounding
+ * box touches, only non-empty cells are stored. Range queries and overlap detection only compare figures which
+ * share a cell, so with a cell size around the typical figure size they are close to linear in the number of
+ * figures (plus hits) instead of quadratic.
+ * <p>
+ * Figures which would span more than {@value #MAX_CELLS_PER_FIGURE} cells are not registered in cells but kept in
+ * an oversize list which every query scans, and a query box covering more cells than are stored visits the stored
+ * cells instead of the box, so neither the memory nor the time depends on how large a figure or a query box is.
+ * Bounds must be finite.
+ * <p>
+ * Overlap means that the figures have inner points in common; figures which only touch do not overlap.
+ * Figures are compared by identity. Not thread-safe.
+ */
+class FigureGrid {
+    static final int MAX_CELLS_PER_FIGURE = 64;
+
+    /** Cell coordinates are clamped to this range, so that the loops over a cell range cannot overflow. */
+    private static final int MAX_CELL = 1 << 30;
+
+    private final double cellSize;
+    private final CellMap cells = new CellMap();
+    private final Cell oversize = new Cell();
+    private final Map<Placed, Integer> ids = new IdentityHashMap<>();
+
+    private Placed[] figures = new Placed[16];
+    /** Registered cell range of every figure: minCellX, minCellY, maxCellX, maxCellY; unused for oversize figures. */
+    private int[] cellRanges = new int[16 * 4];
+    private boolean[] oversized = new boolean[16];
+    private int[] seen = new int[16];
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private int nextId;
+    private int stamp;
+
+    FigureGrid(double cellSize) {
+        if (!(cellSize > 0) || Double.isInfinite(cellSize)) {
+            throw new IllegalArgumentException("Illegal cell size: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    boolean contains(Placed figure) {
+        return ids.containsKey(figure);
+    }
+
+    /**
+     * @return {@code false} if the figure is already in the grid
+     * @throws IllegalArgumentException if the bounding box of the figure is not finite
+     */
+    boolean insert(Placed figure) {
+        if (ids.containsKey(figure)) return false;
+        checkBounds(figure);
+
+        int id = freeCount > 0 ? freeIds[--freeCount] : newId();
+        figures[id] = figure;
+        ids.put(figure, id);
+        register(id, figure);
+        return true;
+    }
+
+    /**
+     * @return {@code false} if the figure is not in the grid
+     */
+    boolean remove(Placed figure) {
+        Integer id = ids.remove(figure);
+        if (id == null) return false;
+
+        unregister(id);
+        figures[id] = null;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+        return true;
+    }
+
+    /**
+     * Moves the figure with {@link Placed#moveTo} and updates the grid; the cells only change if the
+     * figure crosses a cell border.
+     *
+     * @throws IllegalArgumentException if the figure is not in the grid or the new bounding box is not finite;
+     *                                  the figure is not moved then
+     */
+    void move(Placed figure, double x, double y) {
+        Integer id = ids.get(figure);
+        if (id == null) {
+            throw new IllegalArgumentException("Figure is not in the grid: " + figure);
+        }
+
+        double oldX = figure.getX();
+        double oldY = figure.getY();
+        figure.moveTo(x, y);
+        try {
+            checkBounds(figure);
+        } catch (IllegalArgumentException e) {
+            figure.moveTo(oldX, oldY);
+            throw e;
+        }
+
+        int base = id * 4;
+        if (!oversized[id] && !isOversize(figure)
+                && cellRanges[base] == cell(figure.getMinX()) && cellRanges[base + 1] == cell(figure.getMinY())
+                && cellRanges[base + 2] == cell(figure.getMaxX()) && cellRanges[base + 3] == cell(figure.getMaxY())) {
+            return;
+        }
+        unregister(id);
+        register(id, figure);
+    }
+
+    /**
+     * All figures which overlap the region {@code [minX, maxX] x [minY, maxY]}.
+     *
+     * @throws IllegalArgumentException if a bound is not finite
+     */
+    List<Placed> query(double minX, double minY, double maxX, double maxY) {
+        checkBounds(minX, minY, maxX, maxY);
+        List<Placed> result = new ArrayList<>();
+        if (minX > maxX || minY > maxY) return result;
+
+        forEachCandidate(minX, minY, maxX, maxY, id -> {
+            if (overlapsBox(figures[id], minX, minY, maxX, maxY)) {
+                result.add(figures[id]);
+            }
+        });
+        for (int i = 0; i < oversize.size; i++) {
+            Placed figure = figures[oversize.ids[i]];
+            if (overlapsBox(figure, minX, minY, maxX, maxY)) {
+                result.add(figure);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calls {@code action} once for every pair of overlapping figures.
+     * <p>
+     * A pair which shares several cells is only tested in the cell containing the lower corner of the
+     * intersection of both bounding boxes, so no set of already reported pairs is needed. Oversize figures
+     * are compared with each other and with the figures in the cells below their bounding box.
+     *
+     * @return the number of overlapping pairs
+     */
+    long forEachOverlap(BiConsumer<? super Placed, ? super Placed> action) {
+        long[] count = {0};
+        for (int c = 0; c < cells.capacity(); c++) {
+            Cell cell = cells.valueAt(c);
+            if (cell == null) continue;
+            long key = cells.keyAt(c);
+            int cx = (int) (key >> 32);
+            int cy = (int) key;
+            for (int i = 0; i < cell.size; i++) {
+                Placed a = figures[cell.ids[i]];
+                for (int j = i + 1; j < cell.size; j++) {
+                    Placed b = figures[cell.ids[j]];
+                    if (cell(Math.max(a.getMinX(), b.getMinX())) != cx
+                            || cell(Math.max(a.getMinY(), b.getMinY())) != cy) {
+                        continue;
+                    }
+                    if (overlaps(a, b)) {
+                        action.accept(a, b);
+                        count[0]++;
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < oversize.size; i++) {
+            Placed a = figures[oversize.ids[i]];
+            for (int j = i + 1; j < oversize.size; j++) {
+                Placed b = figures[oversize.ids[j]];
+                if (overlaps(a, b)) {
+                    action.accept(a, b);
+                    count[0]++;
+                }
+            }
+            forEachCandidate(a.getMinX(), a.getMinY(), a.getMaxX(), a.getMaxY(), id -> {
+                if (overlaps(a, figures[id])) {
+                    action.accept(a, figures[id]);
+                    count[0]++;
+                }
+            });
+        }
+        return count[0];
+    }
+
+    static boolean overlaps(Placed a, Placed b) {
+        if (a.getMinX() >= b.getMaxX() || b.getMinX() >= a.getMaxX()
+                || a.getMinY() >= b.getMaxY() || b.getMinY() >= a.getMaxY()) {
+            return false;
+        }
+        if (a instanceof Circle && b instanceof Circle) {
+            double dx = a.getX() - b.getX();
+            double dy = a.getY() - b.getY();
+            double radii = ((Circle) a).getRadius() + ((Circle) b).getRadius();
+            return dx * dx + dy * dy < radii * radii;
+        }
+        if (a instanceof Circle) {
+            return overlapsBox(a, b.getMinX(), b.getMinY(), b.getMaxX(), b.getMaxY());
+        }
+        if (b instanceof Circle) {
+            return overlapsBox(b, a.getMinX(), a.getMinY(), a.getMaxX(), a.getMaxY());
+        }
+        return true;
+    }
+
+    private static boolean overlapsBox(Placed figure, double minX, double minY, double maxX, double maxY) {
+        if (figure.getMinX() >= maxX || minX >= figure.getMaxX()
+                || figure.getMinY() >= maxY || minY >= figure.getMaxY()) {
+            return false;
+        }
+        if (!(figure instanceof Circle)) return true;
+
+        double radius = ((Circle) figure).getRadius();
+        double dx = figure.getX() - Math.max(minX, Math.min(figure.getX(), maxX));
+        double dy = figure.getY() - Math.max(minY, Math.min(figure.getY(), maxY));
+        return dx * dx + dy * dy < radius * radius;
+    }
+
+    /**
+     * Calls {@code action} once for every id in a cell touched by the box (oversize figures are not included).
+     * If the box covers more cells than are stored, all stored cells are visited instead.
+     */
+    private void forEachCandidate(double minX, double minY, double maxX, double maxY, IntConsumer action) {
+        int mark = nextStamp();
+        int minCellX = cell(minX);
+        int minCellY = cell(minY);
+        int maxCellX = cell(maxX);
+        int maxCellY = cell(maxY);
+        long boxCells = ((long) maxCellX - minCellX + 1) * ((long) maxCellY - minCellY + 1);
+        if (boxCells > cells.size()) {
+            for (int c = 0; c < cells.capacity(); c++) {
+                Cell cell = cells.valueAt(c);
+                if (cell != null) {
+                    visit(cell, mark, action);
+                }
+            }
+            return;
+        }
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                Cell cell = cells.get(key(cx, cy));
+                if (cell != null) {
+                    visit(cell, mark, action);
+                }
+            }
+        }
+    }
+
+    private void visit(Cell cell, int mark, IntConsumer action) {
+        for (int i = 0; i < cell.size; i++) {
+            int id = cell.ids[i];
+            if (seen[id] != mark) {
+                seen[id] = mark;
+                action.accept(id);
+            }
+        }
+    }
+
+    private void register(int id, Placed figure) {
+        if (isOversize(figure)) {
+            oversized[id] = true;
+            oversize.add(id);
+            return;
+        }
+
+        oversized[id] = false;
+        int minCellX = cell(figure.getMinX());
+        int minCellY = cell(figure.getMinY());
+        int maxCellX = cell(figure.getMaxX());
+        int maxCellY = cell(figure.getMaxY());
+        int base = id * 4;
+        cellRanges[base] = minCellX;
+        cellRanges[base + 1] = minCellY;
+        cellRanges[base + 2] = maxCellX;
+        cellRanges[base + 3] = maxCellY;
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                cells.getOrCreate(key(cx, cy)).add(id);
+            }
+        }
+    }
+
+    private void unregister(int id) {
+        if (oversized[id]) {
+            oversize.remove(id);
+            return;
+        }
+
+        int base = id * 4;
+        for (int cx = cellRanges[base]; cx <= cellRanges[base + 2]; cx++) {
+            for (int cy = cellRanges[base + 1]; cy <= cellRanges[base + 3]; cy++) {
+                long key = key(cx, cy);
+                Cell cell = cells.get(key);
+                cell.remove(id);
+                if (cell.size == 0) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+
+    private boolean isOversize(Placed figure) {
+        long width = (long) cell(figure.getMaxX()) - cell(figure.getMinX()) + 1;
+        long height = (long) cell(figure.getMaxY()) - cell(figure.getMinY()) + 1;
+        return width * height > MAX_CELLS_PER_FIGURE;
+    }
+
+    private static void checkBounds(Placed figure) {
+        checkBounds(figure.getMinX(), figure.getMinY(), figure.getMaxX(), figure.getMaxY());
+    }
+
+    private static void checkBounds(double minX, double minY, double maxX, double maxY) {
+        if (!Double.isFinite(minX) || !Double.isFinite(minY) || !Double.isFinite(maxX) || !Double.isFinite(maxY)) {
+            throw new IllegalArgumentException("Bounds must be finite: [" + minX + ", " + maxX + "] x ["
+                    + minY + ", " + maxY + "]");
+        }
+    }
+
+    private int newId() {
+        if (nextId == figures.length) {
+            int capacity = nextId * 2;
+            figures = Arrays.copyOf(figures, capacity);
+            cellRanges = Arrays.copyOf(cellRanges, capacity * 4);
+            oversized = Arrays.copyOf(oversized, capacity);
+            seen = Arrays.copyOf(seen, capacity);
+        }
+        return nextId++;
+    }
+
+    private int nextStamp() {
+        if (++stamp == 0) {
+            Arrays.fill(seen, 0);
+            stamp = 1;
+        }
+        return stamp;
+    }
+
+    private int cell(double coordinate) {
+        double cell = Math.floor(coordinate / cellSize);
+        return (int) Math.max(-MAX_CELL, Math.min(MAX_CELL, cell));
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    private static final class Cell {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Open-addressing map from cell keys to cells with linear probing. The keys are mixed with the MurmurHash3
+     * finalizer, because {@code Long.hashCode} of {@code cx << 32 | cy} is {@code cx ^ cy} and maps a whole
+     * diagonal of the grid to the same bucket.
+     */
+    private static final class CellMap {
+        private long[] keys = new long[16];
+        private Cell[] values = new Cell[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return values.length;
+        }
+
+        long keyAt(int slot) {
+            return keys[slot];
+        }
+
+        Cell valueAt(int slot) {
+            return values[slot];
+        }
+
+        Cell get(long key) {
+            int mask = values.length - 1;
+            for (int slot = hash(key) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) return values[slot];
+            }
+            return null;
+        }
+
+        Cell getOrCreate(long key) {
+            int mask = values.length - 1;
+            int slot = hash(key) & mask;
+            for (; values[slot] != null; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) return values[slot];
+            }
+            Cell cell = new Cell();
+            keys[slot] = key;
+            values[slot] = cell;
+            if (++size * 2 > values.length) {
+                grow();
+            }
+            return cell;
+        }
+
+        void remove(long key) {
+            int mask = values.length - 1;
+            int slot = hash(key) & mask;
+            while (values[slot] != null && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (values[slot] == null) return;
+
+            values[slot] = null;
+            size--;
+            // shift following entries of the probe sequence back into the gap
+            for (int next = (slot + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+                int home = hash(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - slot) & mask)) {
+                    keys[slot] = keys[next];
+                    values[slot] = values[next];
+                    values[next] = null;
+                    slot = next;
+                }
+            }
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            Cell[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new Cell[oldValues.length * 2];
+            int mask = values.length - 1;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] == null) continue;
+                int slot = hash(oldKeys[i]) & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+
+        private static int hash(long key) {
+            key ^= key >>> 33;
+            key *= 0xFF51AFD7ED558CCDL;
+            key ^= key >>> 33;
+            key *= 0xC4CEB9FE1A85EC53L;
+            key ^= key >>> 33;
+            return (int) key;
+        }
+    }
+}
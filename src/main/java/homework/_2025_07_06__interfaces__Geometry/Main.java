@@ -1,5 +1,7 @@
 package homework._2025_07_06__interfaces__Geometry;
 
+import java.util.SplittableRandom;
+
 /**
  * Führen Sie den Begriff "Rechteck" in einem Projekt ein. Ein Rechteck hat Breite und Höhe.
  * <p>
@@ -17,20 +19,11 @@ public class Main {
     public static void main(String[] args) {
         AreaCalculable[] figures = generateFigures(100);
         printArea(figures);
+        System.out.println("Gesamtfläche aller Figuren: " + ParallelFigures.totalArea(figures));
     }
 
     private static AreaCalculable[] generateFigures(int count) {
-        AreaCalculable[] figures = new AreaCalculable[count];
-
-        for (int i = 0; i < figures.length; i++) {
-            if (Math.random() < 0.5) {
-                figures[i] = new Circle(Math.random());
-            } else {
-                figures[i] = new Rectangle(Math.random(), Math.random());
-            }
-        }
-
-        return figures;
+        return ParallelFigures.generate(count, new SplittableRandom().nextLong());
     }
 
     private static void printArea(AreaCalculable[] figures) {
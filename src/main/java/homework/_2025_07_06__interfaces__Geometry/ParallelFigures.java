@@ -0,0 +1,183 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Generates random figures and sums their areas on a fork/join pool.
+ * <p>
+ * The work is always split into the same tree of ranges with {@value #THRESHOLD} figures per leaf, no matter
+ * how many threads there are. Every task gets its own {@link SplittableRandom}, split off from the parent's
+ * one, instead of sharing {@link Math#random()}; the sums are added up with Neumaier's compensated summation
+ * along the same tree. Therefore the same seed always gives the same figures and the same total.
+ */
+final class ParallelFigures {
+    static final int THRESHOLD = 1 << 16;
+
+    private ParallelFigures() {
+    }
+
+    /**
+     * Same figures as {@code Main.generateFigures}: half circles, half rectangles, sizes in [0, 1).
+     */
+    static AreaCalculable[] generate(int count, long seed) {
+        return generate(count, seed, ForkJoinPool.commonPool());
+    }
+
+    static AreaCalculable[] generate(int count, long seed, ForkJoinPool pool) {
+        AreaCalculable[] figures = new AreaCalculable[count];
+        pool.invoke(new GenerateAction(new FigureSink() {
+            @Override
+            public void circle(int index, double radius) {
+                figures[index] = new Circle(radius);
+            }
+
+            @Override
+            public void rectangle(int index, double width, double height) {
+                figures[index] = new Rectangle(width, height);
+            }
+        }, new SplittableRandom(seed), 0, count));
+        return figures;
+    }
+
+    /**
+     * Same figures as {@link #generate(int, long)} with the same seed, but stored in a {@link FigureBatch}.
+     */
+    static FigureBatch generateBatch(int count, long seed) {
+        return generateBatch(count, seed, ForkJoinPool.commonPool());
+    }
+
+    static FigureBatch generateBatch(int count, long seed, ForkJoinPool pool) {
+        FigureBatch batch = new FigureBatch(count);
+        batch.resize(count);
+        pool.invoke(new GenerateAction(new FigureSink() {
+            @Override
+            public void circle(int index, double radius) {
+                batch.setCircle(index, radius);
+            }
+
+            @Override
+            public void rectangle(int index, double width, double height) {
+                batch.setRectangle(index, width, height);
+            }
+        }, new SplittableRandom(seed), 0, count));
+        return batch;
+    }
+
+    static double totalArea(AreaCalculable[] figures) {
+        return totalArea(figures, ForkJoinPool.commonPool());
+    }
+
+    static double totalArea(AreaCalculable[] figures, ForkJoinPool pool) {
+        return pool.invoke(new SumTask(i -> figures[i].getArea(), 0, figures.length)).value();
+    }
+
+    static double totalArea(FigureBatch batch) {
+        return totalArea(batch, ForkJoinPool.commonPool());
+    }
+
+    static double totalArea(FigureBatch batch, ForkJoinPool pool) {
+        return pool.invoke(new SumTask(batch::area, 0, batch.size())).value();
+    }
+
+    private interface FigureSink {
+        void circle(int index, double radius);
+
+        void rectangle(int index, double width, double height);
+    }
+
+    /**
+     * Fills the range; the left half continues with a random split off from this task's one,
+     * the right half with this task's one.
+     */
+    private static class GenerateAction extends RecursiveAction {
+        private final FigureSink sink;
+        private final SplittableRandom random;
+        private final int from;
+        private final int to;
+
+        GenerateAction(FigureSink sink, SplittableRandom random, int from, int to) {
+            this.sink = sink;
+            this.random = random;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    if (random.nextBoolean()) {
+                        sink.circle(i, random.nextDouble());
+                    } else {
+                        sink.rectangle(i, random.nextDouble(), random.nextDouble());
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GenerateAction(sink, random.split(), from, middle),
+                    new GenerateAction(sink, random, middle, to));
+        }
+    }
+
+    private static class SumTask extends RecursiveTask<CompensatedSum> {
+        private final IntToDoubleFunction area;
+        private final int from;
+        private final int to;
+
+        SumTask(IntToDoubleFunction area, int from, int to) {
+            this.area = area;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected CompensatedSum compute() {
+            if (to - from <= THRESHOLD) {
+                CompensatedSum sum = new CompensatedSum();
+                for (int i = from; i < to; i++) {
+                    sum.add(area.applyAsDouble(i));
+                }
+                return sum;
+            }
+            int middle = (from + to) >>> 1;
+            SumTask left = new SumTask(area, from, middle);
+            SumTask right = new SumTask(area, middle, to);
+            invokeAll(left, right);
+            CompensatedSum sum = left.join();
+            sum.add(right.join());
+            return sum;
+        }
+    }
+
+    /**
+     * Neumaier's variant of Kahan summation: {@code compensation} collects the low-order bits lost in {@code sum}.
+     */
+    private static final class CompensatedSum {
+        private double sum;
+        private double compensation;
+
+        void add(double value) {
+            double t = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - t) + value;
+            } else {
+                compensation += (value - t) + sum;
+            }
+            sum = t;
+        }
+
+        void add(CompensatedSum other) {
+            add(other.sum);
+            compensation += other.compensation;
+        }
+
+        double value() {
+            return sum + compensation;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+/**
+ * Figure with a position in the plane. The bounding box is used by {@link FigureGrid}.
+ */
+interface Placed {
+    double getX();
+
+    double getY();
+
+    /**
+     * Moves the figure. A figure in a {@link FigureGrid} must be moved with {@link FigureGrid#move}.
+     */
+    void moveTo(double x, double y);
+
+    double getMinX();
+
+    double getMinY();
+
+    double getMaxX();
+
+    double getMaxY();
+}
@@ -1,18 +1,74 @@
 package homework._2025_07_06__interfaces__Geometry;
 
-class Rectangle implements AreaCalculable, PartOfAreaCalculable {
+/**
+ * Position ({@link #getX()}, {@link #getY()}) is the corner with the smallest coordinates.
+ */
+class Rectangle implements AreaCalculable, PartOfAreaCalculable, Placed {
     private final double width;
     private final double height;
+    private double x;
+    private double y;
 
     public Rectangle(double width, double height) {
         this.width = width;
         this.height = height;
     }
 
+    public Rectangle(double x, double y, double width, double height) {
+        this.width = width;
+        this.height = height;
+        this.x = x;
+        this.y = y;
+    }
+
     public double getArea() {
         return width * height;
     }
 
+    double getWidth() {
+        return width;
+    }
+
+    double getHeight() {
+        return height;
+    }
+
+    @Override
+    public double getX() {
+        return x;
+    }
+
+    @Override
+    public double getY() {
+        return y;
+    }
+
+    @Override
+    public void moveTo(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public double getMinX() {
+        return x;
+    }
+
+    @Override
+    public double getMinY() {
+        return y;
+    }
+
+    @Override
+    public double getMaxX() {
+        return x + width;
+    }
+
+    @Override
+    public double getMaxY() {
+        return y + height;
+    }
+
     @Override
     public double getPartOfArea() {
         return AreaCalculable.super.getPartOfArea();
@@ -0,0 +1,25 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+/**
+ * Plain loops; the JIT may still unroll and auto-vectorize them.
+ */
+final class ScalarFigureAreaKernel implements FigureAreaKernel {
+    static final ScalarFigureAreaKernel INSTANCE = new ScalarFigureAreaKernel();
+
+    private ScalarFigureAreaKernel() {
+    }
+
+    @Override
+    public void areas(double[] radii, double[] widths, double[] heights, double[] out, int size) {
+        for (int i = 0; i < size; i++) {
+            out[i] = Math.PI * radii[i] * radii[i] + widths[i] * heights[i];
+        }
+    }
+
+    @Override
+    public void partsOfArea(double[] radii, double[] widths, double[] heights, double[] out, int size) {
+        for (int i = 0; i < size; i++) {
+            out[i] = (Math.PI * radii[i] * radii[i] + widths[i] * heights[i]) * 0.5;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Selects the {@code k} figures with the largest areas without sorting all of them.
+ * <p>
+ * An instance is a bounded min-heap of (area, index) pairs in two primitive arrays: every offered figure is
+ * compared with the smallest of the current top {@code k} and only replaces it if it is larger, so a single pass
+ * needs O(min(k, n)) memory and mostly O(1) per figure. Equal areas are ordered by index (smaller index first), so
+ * all variants, including {@link #select(double[], int)} and the parallel one, return exactly the same result.
+ * <p>
+ * Not thread-safe; the parallel selection gives every task its own heap and merges them.
+ */
+final class TopKFigures {
+    private static final int MIN_PARALLEL_CHUNK = 1 << 16;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int k;
+    private double[] areas;
+    private int[] indices;
+    private int size;
+
+    TopKFigures(int k) {
+        this(k, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expected number of figures which will probably be offered; the arrays start with
+     *                 {@code min(k, expected)} slots and grow up to {@code k} when more are kept,
+     *                 so a huge {@code k} does not allocate more than the figures need
+     */
+    TopKFigures(int k, int expected) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        this.k = k;
+        int capacity = Math.min(k, Math.max(expected, 0));
+        this.areas = new double[capacity];
+        this.indices = new int[capacity];
+    }
+
+    /**
+     * Indices of the {@code k} largest figures, largest first.
+     */
+    static int[] largest(AreaCalculable[] figures, int k) {
+        TopKFigures top = new TopKFigures(k, figures.length);
+        for (int i = 0; i < figures.length; i++) {
+            top.offer(i, figures[i].getArea());
+        }
+        return top.indices();
+    }
+
+    /**
+     * Same as {@link #largest(AreaCalculable[], int)}, but every core fills its own heap on the common
+     * fork/join pool; the heaps are merged at the end.
+     */
+    static int[] largestParallel(AreaCalculable[] figures, int k) {
+        int chunk = Math.max(MIN_PARALLEL_CHUNK, figures.length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        return ForkJoinPool.commonPool().invoke(new SelectTask(figures, k, 0, figures.length, chunk)).indices();
+    }
+
+    /**
+     * Quickselect on a copy of {@code areas}: finds the k-th largest area in expected linear time and then
+     * collects the indices of all areas above it. Faster than the heap for large {@code k}, but needs O(n) memory,
+     * e.g. for the areas of a {@link FigureBatch}.
+     *
+     * @return indices of the {@code k} largest areas, largest first
+     */
+    static int[] select(double[] areas, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        if (k == 0 || areas.length == 0) return new int[0];
+        if (k >= areas.length) {
+            TopKFigures top = new TopKFigures(areas.length, areas.length);
+            for (int i = 0; i < areas.length; i++) {
+                top.offer(i, areas[i]);
+            }
+            return top.indices();
+        }
+
+        double threshold = kthLargest(areas.clone(), k);
+        int greater = 0;
+        for (double area : areas) {
+            if (Double.compare(area, threshold) > 0) greater++;
+        }
+
+        TopKFigures top = new TopKFigures(k, k);
+        int equal = k - greater;
+        for (int i = 0; i < areas.length; i++) {
+            int cmp = Double.compare(areas[i], threshold);
+            if (cmp > 0 || cmp == 0 && equal-- > 0) {
+                top.offer(i, areas[i]);
+            }
+        }
+        return top.indices();
+    }
+
+    void offer(int index, double area) {
+        if (size < k) {
+            if (size == areas.length) {
+                grow();
+            }
+            areas[size] = area;
+            indices[size] = index;
+            siftUp(size++);
+        } else if (k > 0 && greater(area, index, areas[0], indices[0])) {
+            areas[0] = area;
+            indices[0] = index;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Offers all entries of the other heap.
+     */
+    void merge(TopKFigures other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.indices[i], other.areas[i]);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * The smallest area which is still in the top {@code k}, or {@code NEGATIVE_INFINITY} while there are fewer.
+     */
+    double threshold() {
+        return size < k || k == 0 ? Double.NEGATIVE_INFINITY : areas[0];
+    }
+
+    /**
+     * Indices in the heap, largest area first.
+     */
+    int[] indices() {
+        TopKFigures heap = new TopKFigures(k, size);
+        System.arraycopy(areas, 0, heap.areas, 0, size);
+        System.arraycopy(indices, 0, heap.indices, 0, size);
+        heap.size = size;
+
+        int[] result = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = heap.indices[0];
+            heap.size--;
+            heap.areas[0] = heap.areas[heap.size];
+            heap.indices[0] = heap.indices[heap.size];
+            heap.siftDown(0);
+        }
+        return result;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min(k, Math.max(DEFAULT_CAPACITY, 2L * size));
+        areas = Arrays.copyOf(areas, capacity);
+        indices = Arrays.copyOf(indices, capacity);
+    }
+
+    private void siftUp(int i) {
+        double area = areas[i];
+        int index = indices[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!greater(areas[parent], indices[parent], area, index)) break;
+            areas[i] = areas[parent];
+            indices[i] = indices[parent];
+            i = parent;
+        }
+        areas[i] = area;
+        indices[i] = index;
+    }
+
+    private void siftDown(int i) {
+        double area = areas[i];
+        int index = indices[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && greater(areas[child], indices[child], areas[right], indices[right])) {
+                child = right;
+            }
+            if (!greater(area, index, areas[child], indices[child])) break;
+            areas[i] = areas[child];
+            indices[i] = indices[child];
+            i = child;
+        }
+        areas[i] = area;
+        indices[i] = index;
+    }
+
+    /**
+     * Larger area, or the same area and a smaller index.
+     */
+    private static boolean greater(double area, int index, double otherArea, int otherIndex) {
+        int cmp = Double.compare(area, otherArea);
+        return cmp > 0 || cmp == 0 && index < otherIndex;
+    }
+
+    /**
+     * Reorders {@code values} and returns the value which would be at position {@code k - 1}
+     * if they were sorted in descending order.
+     */
+    private static double kthLargest(double[] values, int k) {
+        int target = k - 1;
+        int from = 0;
+        int to = values.length - 1;
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            double pivot = medianOfThree(values[from], values[middle], values[to]);
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (Double.compare(values[i], pivot) > 0) i++;
+                while (Double.compare(values[j], pivot) < 0) j--;
+                if (i <= j) {
+                    double tmp = values[i];
+                    values[i] = values[j];
+                    values[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (target <= j) {
+                to = j;
+            } else if (target >= i) {
+                from = i;
+            } else {
+                return values[target];
+            }
+        }
+        return values[target];
+    }
+
+    private static double medianOfThree(double a, double b, double c) {
+        if (Double.compare(a, b) > 0) {
+            double tmp = a;
+            a = b;
+            b = tmp;
+        }
+        if (Double.compare(b, c) > 0) {
+            b = c;
+        }
+        return Double.compare(a, b) > 0 ? a : b;
+    }
+
+    private static class SelectTask extends RecursiveTask<TopKFigures> {
+        private final AreaCalculable[] figures;
+        private final int k;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        SelectTask(AreaCalculable[] figures, int k, int from, int to, int chunk) {
+            this.figures = figures;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected TopKFigures compute() {
+            if (to - from <= chunk) {
+                TopKFigures top = new TopKFigures(k, to - from);
+                for (int i = from; i < to; i++) {
+                    top.offer(i, figures[i].getArea());
+                }
+                return top;
+            }
+            int middle = (from + to) >>> 1;
+            SelectTask left = new SelectTask(figures, k, from, middle, chunk);
+            SelectTask right = new SelectTask(figures, k, middle, to, chunk);
+            invokeAll(left, right);
+            TopKFigures top = left.join();
+            top.merge(right.join());
+            return top;
+        }
+    }
+}
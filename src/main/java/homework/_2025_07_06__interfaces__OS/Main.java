@@ -67,6 +67,15 @@ public class Main {
 
         Arrays.sort(os, comparator);
         print(os);
+
+        System.out.println("------------ Nutzung von OSRadixSorter (Desc) ---------------");
+        OSRadixSorter.sort(os, OSRadixSorter.Order.DESCENDING);
+        print(os);
+
+        System.out.println("------------ Nutzung von OSRegistry (Linux, Version 10 bis 23) ---------------");
+        OSRegistry registry = new OSRegistry();
+        registry.register(os);
+        print(registry.find("Linux", 10, 23).toArray(new OS[0]));
     }
 
     private static void print(OS[] os) {
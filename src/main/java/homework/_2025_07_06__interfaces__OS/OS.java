@@ -13,6 +13,10 @@ class OS implements /*CustomDescComparable,*/ CustomVersionComparable, Comparabl
         return version;
     }
 
+    String getName() {
+        return name;
+    }
+
     @Override
     public String toString() {
         String hash = Integer.toString(this.hashCode(), 16);
@@ -0,0 +1,134 @@
+package homework._2025_07_06__interfaces__OS;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sorts {@link OS} arrays without a {@link java.util.Comparator}.
+ * <p>
+ * The distinct names are numbered in alphabetical order, then every {@code OS} gets a {@code long} key with the
+ * name number in the upper and the version (sign bit flipped, so that negative versions come first) in the lower
+ * 32 bits. These keys are sorted together with the original positions by an LSD radix sort with 8-bit digits;
+ * digits which are the same for all keys (e.g. the upper bytes of small versions) are skipped. The sort is
+ * stable, so the result is the same as {@code Arrays.sort} with the matching comparator
+ * (except for versions so far apart that {@code version - other.version} overflows).
+ */
+final class OSRadixSorter {
+    enum Order {
+        /** Like {@link OS#compareTo}: name, then version. */
+        ASCENDING,
+        /** Like {@link OSDescComparator}: name descending, then version descending. */
+        DESCENDING,
+        /** Like {@link OSVersionComparator}: only the version. */
+        VERSION,
+        /** Only the version, descending. */
+        VERSION_DESCENDING
+    }
+
+    private static final int DIGIT_BITS = 8;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+
+    private OSRadixSorter() {
+    }
+
+    /**
+     * Sorts the array; every element is moved once.
+     */
+    static void sort(OS[] os, Order order) {
+        int[] permutation = permutation(os, order);
+        OS[] copy = os.clone();
+        for (int i = 0; i < os.length; i++) {
+            os[i] = copy[permutation[i]];
+        }
+    }
+
+    /**
+     * The array is not modified.
+     *
+     * @return the original position of the element which belongs at each position of the sorted array
+     */
+    static int[] permutation(OS[] os, Order order) {
+        int n = os.length;
+        long[] keys = keys(os, order);
+        int[] positions = new int[n];
+        for (int i = 0; i < n; i++) {
+            positions[i] = i;
+        }
+        if (n < 2) return positions;
+
+        long[] keyBuffer = new long[n];
+        int[] positionBuffer = new int[n];
+        int[] counts = new int[BUCKETS];
+        for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+            Arrays.fill(counts, 0);
+            for (long key : keys) {
+                counts[digit(key, shift)]++;
+            }
+            if (counts[digit(keys[0], shift)] == n) continue;
+
+            int start = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                int count = counts[b];
+                counts[b] = start;
+                start += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int target = counts[digit(keys[i], shift)]++;
+                keyBuffer[target] = keys[i];
+                positionBuffer[target] = positions[i];
+            }
+
+            long[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            int[] swapPositions = positions;
+            positions = positionBuffer;
+            positionBuffer = swapPositions;
+        }
+        return positions;
+    }
+
+    private static int digit(long key, int shift) {
+        return (int) (key >>> shift) & (BUCKETS - 1);
+    }
+
+    /**
+     * Keys in ascending order of the requested order; descending orders use the complement.
+     */
+    private static long[] keys(OS[] os, Order order) {
+        boolean withName = order == Order.ASCENDING || order == Order.DESCENDING;
+        int[] nameIds = withName ? nameIds(os) : null;
+
+        long[] keys = new long[os.length];
+        for (int i = 0; i < os.length; i++) {
+            long key = (os[i].getVersion() ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+            if (withName) {
+                key |= (long) nameIds[i] << 32;
+            }
+            keys[i] = order == Order.DESCENDING || order == Order.VERSION_DESCENDING ? ~key : key;
+        }
+        return keys;
+    }
+
+    /**
+     * Number of every element's name among the distinct names in alphabetical order.
+     */
+    private static int[] nameIds(OS[] os) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        for (OS o : os) {
+            dictionary.putIfAbsent(o.getName(), 0);
+        }
+        String[] names = dictionary.keySet().toArray(new String[0]);
+        Arrays.sort(names);
+        for (int id = 0; id < names.length; id++) {
+            dictionary.put(names[id], id);
+        }
+
+        int[] nameIds = new int[os.length];
+        for (int i = 0; i < os.length; i++) {
+            nameIds[i] = dictionary.get(os[i].getName());
+        }
+        return nameIds;
+    }
+}
@@ -0,0 +1,218 @@
+package homework._2025_07_06__interfaces__OS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe registry of {@link OS} objects with lookups by name and version range.
+ * <p>
+ * Readers see an immutable snapshot through a volatile field: per name an array of versions in ascending order
+ * and the matching {@code OS} objects, so a range query is a binary search without any lock and never waits
+ * for a writer. Writers put their changes into a queue; whoever gets the write lock applies all queued changes,
+ * including those of other writers, and publishes one new snapshot in which only the changed names are copied.
+ * Many concurrent or bulk writes therefore cost one copy instead of one each; single writes to a name with
+ * many systems are expensive, so large updates should be passed to one {@code register} call.
+ * When {@code register} or {@code unregister} returns, the change is visible to all readers.
+ * <p>
+ * Objects are compared by identity; registering the same object twice has no effect.
+ */
+class OSRegistry {
+    private final ConcurrentLinkedQueue<Change> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Map<String, Versions> snapshot = Collections.emptyMap();
+
+    void register(OS... systems) {
+        submit(systems, true);
+    }
+
+    void unregister(OS... systems) {
+        submit(systems, false);
+    }
+
+    /**
+     * All registered systems with the given name, by ascending version.
+     */
+    List<OS> find(String name) {
+        Versions versions = snapshot.get(name);
+        return versions == null ? Collections.<OS>emptyList() : versions.range(0, versions.size());
+    }
+
+    /**
+     * Registered systems with the given name and {@code minVersion <= version <= maxVersion}, by ascending version.
+     */
+    List<OS> find(String name, int minVersion, int maxVersion) {
+        Versions versions = snapshot.get(name);
+        if (versions == null || minVersion > maxVersion) return Collections.emptyList();
+
+        int from = versions.lowerBound(minVersion);
+        int to = maxVersion == Integer.MAX_VALUE ? versions.size() : versions.lowerBound(maxVersion + 1);
+        return versions.range(from, to);
+    }
+
+    boolean contains(OS os) {
+        Versions versions = snapshot.get(os.getName());
+        return versions != null && versions.indexOf(os) >= 0;
+    }
+
+    Set<String> names() {
+        return snapshot.keySet();
+    }
+
+    int size() {
+        int size = 0;
+        for (Versions versions : snapshot.values()) {
+            size += versions.size();
+        }
+        return size;
+    }
+
+    private void submit(OS[] systems, boolean add) {
+        for (OS os : systems) {
+            pending.add(new Change(os, add));
+        }
+        writeLock.lock();
+        try {
+            flush();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies all queued changes in queue order; must hold the write lock.
+     */
+    private void flush() {
+        Map<String, List<Change>> changesByName = new LinkedHashMap<>();
+        for (Change change = pending.poll(); change != null; change = pending.poll()) {
+            changesByName.computeIfAbsent(change.os.getName(), k -> new ArrayList<>()).add(change);
+        }
+        if (changesByName.isEmpty()) return;
+
+        Map<String, Versions> next = new HashMap<>(snapshot);
+        for (Map.Entry<String, List<Change>> entry : changesByName.entrySet()) {
+            Versions versions = Versions.apply(next.get(entry.getKey()), entry.getValue());
+            if (versions == null) {
+                next.remove(entry.getKey());
+            } else {
+                next.put(entry.getKey(), versions);
+            }
+        }
+        snapshot = Collections.unmodifiableMap(next);
+    }
+
+    private static final class Change {
+        final OS os;
+        final boolean add;
+
+        Change(OS os, boolean add) {
+            this.os = os;
+            this.add = add;
+        }
+    }
+
+    /**
+     * Immutable systems of one name, sorted by version (stable, in registration order for equal versions).
+     */
+    private static final class Versions {
+        final int[] versions;
+        final OS[] systems;
+
+        private Versions(int[] versions, OS[] systems) {
+            this.versions = versions;
+            this.systems = systems;
+        }
+
+        /**
+         * Only the net effect of the changes per object counts. The remaining systems keep their order, the added
+         * ones are sorted and merged in after equal versions; the cost is O(changes) lookups plus one array copy.
+         *
+         * @return the new systems of the name, or {@code null} if none are left
+         */
+        static Versions apply(Versions current, List<Change> changes) {
+            Map<OS, Boolean> net = new IdentityHashMap<>();
+            for (Change change : changes) {
+                net.put(change.os, change.add);
+            }
+            List<OS> additions = new ArrayList<>();
+            Set<OS> removals = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Change change : changes) {
+                Boolean add = net.remove(change.os);
+                if (add == null) continue;
+                boolean present = current != null && current.indexOf(change.os) >= 0;
+                if (add && !present) {
+                    additions.add(change.os);
+                } else if (!add && present) {
+                    removals.add(change.os);
+                }
+            }
+
+            int currentSize = current == null ? 0 : current.size();
+            int size = currentSize - removals.size() + additions.size();
+            if (size == 0) return null;
+            additions.sort((a, b) -> Integer.compare(a.getVersion(), b.getVersion()));
+
+            OS[] systems = new OS[size];
+            int count = 0;
+            int next = 0;
+            for (int i = 0; i < currentSize; i++) {
+                OS os = current.systems[i];
+                if (!removals.isEmpty() && removals.contains(os)) continue;
+                while (next < additions.size() && additions.get(next).getVersion() < os.getVersion()) {
+                    systems[count++] = additions.get(next++);
+                }
+                systems[count++] = os;
+            }
+            while (next < additions.size()) {
+                systems[count++] = additions.get(next++);
+            }
+
+            int[] versions = new int[size];
+            for (int i = 0; i < size; i++) {
+                versions[i] = systems[i].getVersion();
+            }
+            return new Versions(versions, systems);
+        }
+
+        int indexOf(OS os) {
+            for (int i = lowerBound(os.getVersion()); i < versions.length && versions[i] == os.getVersion(); i++) {
+                if (systems[i] == os) return i;
+            }
+            return -1;
+        }
+
+        int size() {
+            return systems.length;
+        }
+
+        /**
+         * First position with a version {@code >= version}.
+         */
+        int lowerBound(int version) {
+            int low = 0;
+            int high = versions.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (versions[middle] < version) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        List<OS> range(int from, int to) {
+            if (from >= to) return Collections.emptyList();
+            return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(systems, from, to)));
+        }
+    }
+}
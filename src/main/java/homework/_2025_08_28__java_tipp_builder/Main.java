@@ -2,6 +2,11 @@ package homework._2025_08_28__java_tipp_builder;
 
 import homework._2025_08_28__java_tipp_builder.java_tipp.JavaTipp;
 import homework._2025_08_28__java_tipp_builder.java_tipp.JavaTippBuilder;
+import homework._2025_08_28__java_tipp_builder.java_tipp.JavaTippIndex;
+import homework._2025_08_28__java_tipp_builder.java_tipp.JavaTippQuery;
+import homework._2025_08_28__java_tipp_builder.java_tipp.JavaTippQueryPlanner;
+import homework._2025_08_28__java_tipp_builder.java_tipp.JavaTippTextIndex;
+import java.util.BitSet;
 import java.util.function.Predicate;
 
 public class Main {
@@ -30,8 +35,33 @@ public class Main {
         System.out.println("Result 1:");
         printFiltered(tipps, t -> t.getText().contains("Klasse"));
 
+        System.out.println("Result 1 (Index):");
+        JavaTippTextIndex textIndex = new JavaTippTextIndex(tipps);
+        textIndex.tipps(textIndex.search("Klasse")).forEach(System.err::println);
+
+        System.out.println("Result 1 (Index, normalisiert):");
+        textIndex.tipps(textIndex.search("SCHLUESSEL", JavaTippTextIndex.Matching.NORMALIZED)).forEach(System.err::println);
+
         System.out.println("Result 2:");
         printFiltered(tipps, t -> t.getTopics().contains("Klassen") && !t.getTopics().contains("Vererbung"));
+
+        System.out.println("Result 2 (Index):");
+        JavaTippIndex index = new JavaTippIndex(tipps);
+        BitSet ids = index.allOf("Klassen");
+        ids.and(index.noneOf("Vererbung"));
+        index.tipps(ids).forEach(System.err::println);
+
+        System.out.println("Result 3 (Query):");
+        JavaTippQuery query = JavaTippQuery.and(
+                JavaTippQuery.text("Klasse"),
+                JavaTippQuery.topic("Klassen"),
+                JavaTippQuery.not(JavaTippQuery.topic("Vererbung")));
+        JavaTippQueryPlanner planner = new JavaTippQueryPlanner(index, textIndex);
+        System.out.println("Plan: " + planner.explain(query));
+        planner.find(query).forEach(System.err::println);
+
+        System.out.println("Result 3 (Filter):");
+        printFiltered(tipps, query::filter);
     }
 
     static void printFiltered(JavaTipp[] tipps, Predicate<JavaTipp> filter) {
@@ -1,28 +1,70 @@
 package homework._2025_08_28__java_tipp_builder.java_tipp;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
-public class JavaTipp {
-    String text;
-    List<String> topics;
-    
-    JavaTipp() {
-        this.topics = new ArrayList<>();
+/**
+ * Immutable tip, created by {@link JavaTippBuilder#build()}.
+ * <p>
+ * Topics are stored as ids of the shared {@link TopicDictionary} in an array of exactly the right size,
+ * so instances are compact and can be shared between threads without copying.
+ */
+public final class JavaTipp {
+    private final String text;
+    private final int[] topicIds;
+
+    JavaTipp(String text, int[] topicIds) {
+        this.text = text;
+        this.topicIds = topicIds;
     }
 
     public String getText() {
         return this.text;
     }
 
+    /**
+     * Unmodifiable view of the topics.
+     */
     public List<String> getTopics() {
-        return this.topics;
+        return new Topics();
+    }
+
+    public boolean hasTopic(String topic) {
+        int id = TopicDictionary.INSTANCE.idOf(topic);
+        if (id < 0) return false;
+        for (int topicId : topicIds) {
+            if (topicId == id) return true;
+        }
+        return false;
+    }
+
+    /**
+     * The topic ids without copying; callers must not modify the array.
+     */
+    int[] topicIds() {
+        return topicIds;
     }
 
     @Override
     public String toString() {
-        return "JavaTipp: Text: " + text + ".\nTopics: " + topics;
+        return "JavaTipp: Text: " + text + ".\nTopics: " + getTopics();
     }
 
-    
+    private final class Topics extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(int index) {
+            return TopicDictionary.INSTANCE.name(topicIds[index]);
+        }
+
+        @Override
+        public int size() {
+            return topicIds.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String && hasTopic((String) o);
+        }
+    }
 }
@@ -1,10 +1,13 @@
 package homework._2025_08_28__java_tipp_builder.java_tipp;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class JavaTippBuilder {
-    private final JavaTipp javaTipp;
+    private String text;
+    private final List<String> topics = new ArrayList<>();
 
     private JavaTippBuilder() {
-        javaTipp = new JavaTipp();
     }
 
     public static JavaTippBuilder builder() {
@@ -12,16 +15,26 @@ public class JavaTippBuilder {
     }
 
     public JavaTippBuilder withText(String text) {
-        javaTipp.text = text;
+        this.text = text;
         return this;
     }
 
     public JavaTippBuilder withTopic(String topic) {
-        javaTipp.topics.add(topic);
+        if (topic == null) {
+            throw new NullPointerException();
+        }
+        this.topics.add(topic);
         return this;
     }
 
+    /**
+     * Creates a new immutable {@link JavaTipp}; later changes to the builder do not affect it.
+     */
     public JavaTipp build() {
-        return this.javaTipp;
+        int[] topicIds = new int[topics.size()];
+        for (int i = 0; i < topicIds.length; i++) {
+            topicIds[i] = TopicDictionary.INSTANCE.intern(topics.get(i));
+        }
+        return new JavaTipp(text, topicIds);
     }
 }
@@ -0,0 +1,210 @@
+package homework._2025_08_28__java_tipp_builder.java_tipp;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Imports tips from a UTF-8 text file with one tip per line:
+ * <pre>
+ * text&lt;TAB&gt;topic1,topic2,...
+ * </pre>
+ * A line without a tab is a tip without topics; blank lines are skipped.
+ * <p>
+ * The file is split into chunks of about 8 MB at line borders. Every chunk is memory-mapped, decoded and
+ * parsed with {@link JavaTippBuilder} as a task on a fork/join pool. The tips of a finished chunk are passed
+ * to the consumer right away, so at no time more than the chunks in progress are held in memory.
+ * The consumer is never called concurrently, so it does not have to be thread-safe (e.g. a {@link JavaTippIndex}),
+ * but the chunks arrive in no particular order.
+ */
+public class JavaTippImporter {
+    private static final long CHUNK_SIZE = 8L << 20;
+
+    private JavaTippImporter() {
+    }
+
+    /**
+     * Imports on the common fork/join pool.
+     *
+     * @return the number of imported tips
+     */
+    public static long importFile(Path path, Consumer<? super JavaTipp> consumer) throws IOException {
+        return importFile(path, consumer, ForkJoinPool.commonPool());
+    }
+
+    public static long importFile(Path path, Consumer<? super JavaTipp> consumer, ForkJoinPool pool) throws IOException {
+        return importFile(path, consumer, pool, CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize approximate chunk size in bytes; small values are useful to test the chunk borders
+     */
+    static long importFile(Path path, Consumer<? super JavaTipp> consumer, ForkJoinPool pool, long chunkSize) throws IOException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            List<long[]> chunks = split(channel, chunkSize);
+            ImportState state = new ImportState(consumer);
+            try {
+                pool.invoke(new ImportAction(channel, chunks, 0, chunks.size(), state));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return state.count;
+        }
+    }
+
+    /**
+     * Parses a single line of the import format, or returns {@code null} for a blank line.
+     */
+    static JavaTipp parseLine(CharSequence line) {
+        int end = line.length();
+        while (end > 0 && (line.charAt(end - 1) == '\r' || line.charAt(end - 1) == '\n')) end--;
+
+        boolean blank = true;
+        for (int i = 0; i < end && blank; i++) {
+            blank = line.charAt(i) <= ' ';
+        }
+        if (blank) return null;
+
+        int tab = -1;
+        for (int i = 0; i < end; i++) {
+            if (line.charAt(i) == '\t') {
+                tab = i;
+                break;
+            }
+        }
+
+        JavaTippBuilder builder = JavaTippBuilder.builder();
+        if (tab < 0) {
+            return builder.withText(line.subSequence(0, end).toString()).build();
+        }
+
+        builder.withText(line.subSequence(0, tab).toString());
+        int start = tab + 1;
+        for (int i = start; i <= end; i++) {
+            if (i == end || line.charAt(i) == ',') {
+                String topic = line.subSequence(start, i).toString().trim();
+                if (!topic.isEmpty()) {
+                    builder.withTopic(topic);
+                }
+                start = i + 1;
+            }
+        }
+        return builder.build();
+    }
+
+    private static List<long[]> split(FileChannel channel, long chunkSize) throws IOException {
+        long size = channel.size();
+        List<long[]> chunks = new ArrayList<>();
+        long start = 0;
+        while (start < size) {
+            long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, size);
+            chunks.add(new long[]{start, end});
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long current = position - 1;
+        while (current < size) {
+            buffer.clear();
+            int read = channel.read(buffer, current);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return current + i + 1;
+                }
+            }
+            current += read;
+        }
+        return size;
+    }
+
+    /**
+     * Consumer and counter of one import. The tasks lock this private object instead of the consumer,
+     * which belongs to the caller and may be locked by other code as well.
+     */
+    private static final class ImportState {
+        private final Consumer<? super JavaTipp> consumer;
+        private long count;
+
+        ImportState(Consumer<? super JavaTipp> consumer) {
+            this.consumer = consumer;
+        }
+
+        synchronized void accept(List<JavaTipp> tipps) {
+            for (JavaTipp tipp : tipps) {
+                consumer.accept(tipp);
+            }
+            count += tipps.size();
+        }
+    }
+
+    private static class ImportAction extends RecursiveAction {
+        private final FileChannel channel;
+        private final List<long[]> chunks;
+        private final int from;
+        private final int to;
+        private final ImportState state;
+
+        ImportAction(FileChannel channel, List<long[]> chunks, int from, int to, ImportState state) {
+            this.channel = channel;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.state = state;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ImportAction(channel, chunks, from, middle, state),
+                        new ImportAction(channel, chunks, middle, to, state));
+                return;
+            }
+            if (to == from) return;
+
+            state.accept(parseChunk(chunks.get(from)));
+        }
+
+        private List<JavaTipp> parseChunk(long[] chunk) {
+            CharBuffer chars;
+            try {
+                MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, chunk[0], chunk[1] - chunk[0]);
+                chars = StandardCharsets.UTF_8.decode(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            List<JavaTipp> tipps = new ArrayList<>();
+            int lineStart = 0;
+            int limit = chars.limit();
+            for (int i = 0; i <= limit; i++) {
+                if (i == limit || chars.get(i) == '\n') {
+                    JavaTipp tipp = parseLine(chars.subSequence(lineStart, i));
+                    if (tipp != null) {
+                        tipps.add(tipp);
+                    }
+                    lineStart = i + 1;
+                }
+            }
+            return tipps;
+        }
+    }
+}
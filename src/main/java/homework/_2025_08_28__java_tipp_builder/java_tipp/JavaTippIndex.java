@@ -0,0 +1,131 @@
+package homework._2025_08_28__java_tipp_builder.java_tipp;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Inverted topic index over a collection of {@link JavaTipp}s.
+ * <p>
+ * Every tip gets an id (its insertion position), every topic (by its {@link TopicDictionary} id) owns a
+ * {@link BitSet} with the ids of all tips which have this topic. Topic queries are answered with
+ * bit operations on these posting lists instead of calling {@code getTopics().contains(...)} per tip.
+ * <p>
+ * Not thread-safe.
+ */
+public class JavaTippIndex {
+    private final List<JavaTipp> tipps = new ArrayList<>();
+    private final List<BitSet> postings = new ArrayList<>();
+
+    public JavaTippIndex() {
+    }
+
+    public JavaTippIndex(JavaTipp... tipps) {
+        for (JavaTipp tipp : tipps) {
+            add(tipp);
+        }
+    }
+
+    /**
+     * @return the id of the added tip
+     */
+    public int add(JavaTipp tipp) {
+        int id = tipps.size();
+        tipps.add(tipp);
+        for (int topicId : tipp.topicIds()) {
+            while (postings.size() <= topicId) {
+                postings.add(null);
+            }
+            BitSet posting = postings.get(topicId);
+            if (posting == null) {
+                posting = new BitSet();
+                postings.set(topicId, posting);
+            }
+            posting.set(id);
+        }
+        return id;
+    }
+
+    public int size() {
+        return tipps.size();
+    }
+
+    public JavaTipp get(int id) {
+        return tipps.get(id);
+    }
+
+    /**
+     * Number of tips with the given topic.
+     */
+    public int count(String topic) {
+        BitSet posting = posting(topic);
+        return posting == null ? 0 : posting.cardinality();
+    }
+
+    /**
+     * Ids of all tips.
+     */
+    public BitSet all() {
+        BitSet result = new BitSet(tipps.size());
+        result.set(0, tipps.size());
+        return result;
+    }
+
+    /**
+     * Ids of the tips which have every given topic (AND).
+     */
+    public BitSet allOf(String... topics) {
+        if (topics.length == 0) return all();
+
+        BitSet result = null;
+        for (String topic : topics) {
+            BitSet posting = posting(topic);
+            if (posting == null) return new BitSet();
+            if (result == null) {
+                result = (BitSet) posting.clone();
+            } else {
+                result.and(posting);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ids of the tips which have at least one of the given topics (OR).
+     */
+    public BitSet anyOf(String... topics) {
+        BitSet result = new BitSet(tipps.size());
+        for (String topic : topics) {
+            BitSet posting = posting(topic);
+            if (posting != null) {
+                result.or(posting);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ids of the tips which have none of the given topics (NOT).
+     */
+    public BitSet noneOf(String... topics) {
+        BitSet result = all();
+        result.andNot(anyOf(topics));
+        return result;
+    }
+
+    public List<JavaTipp> tipps(BitSet ids) {
+        if (ids.isEmpty()) return Collections.emptyList();
+
+        List<JavaTipp> result = new ArrayList<>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0 && id < tipps.size(); id = ids.nextSetBit(id + 1)) {
+            result.add(tipps.get(id));
+        }
+        return result;
+    }
+
+    BitSet posting(String topic) {
+        int topicId = TopicDictionary.INSTANCE.idOf(topic);
+        return topicId < 0 || topicId >= postings.size() ? null : postings.get(topicId);
+    }
+}
@@ -0,0 +1,215 @@
+package homework._2025_08_28__java_tipp_builder.java_tipp;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Declarative {@link JavaTippFilter}: a tree of topic and text conditions combined with and/or/not.
+ * <p>
+ * {@link #filter(JavaTipp)} checks a single tip directly. Because the structure of the query is
+ * known, a {@link JavaTippQueryPlanner} can instead answer it with the topic and text indexes.
+ * Queries are immutable and can be used as map keys.
+ */
+public abstract class JavaTippQuery implements JavaTippFilter {
+
+    JavaTippQuery() {
+    }
+
+    public static JavaTippQuery topic(String topic) {
+        return new Topic(topic);
+    }
+
+    public static JavaTippQuery text(String text) {
+        return new Text(text, JavaTippTextIndex.Matching.EXACT);
+    }
+
+    public static JavaTippQuery text(String text, JavaTippTextIndex.Matching matching) {
+        return new Text(text, matching);
+    }
+
+    public static JavaTippQuery and(JavaTippQuery... queries) {
+        return new And(queries);
+    }
+
+    public static JavaTippQuery or(JavaTippQuery... queries) {
+        return new Or(queries);
+    }
+
+    public static JavaTippQuery not(JavaTippQuery query) {
+        return new Not(query);
+    }
+
+    static final class Topic extends JavaTippQuery {
+        final String topic;
+
+        Topic(String topic) {
+            this.topic = Objects.requireNonNull(topic);
+        }
+
+        @Override
+        public boolean filter(JavaTipp javaTipp) {
+            return javaTipp.hasTopic(topic);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Topic && topic.equals(((Topic) o).topic);
+        }
+
+        @Override
+        public int hashCode() {
+            return topic.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "topic(" + topic + ")";
+        }
+    }
+
+    static final class Text extends JavaTippQuery {
+        final String text;
+        final JavaTippTextIndex.Matching matching;
+        private final String matchText;
+
+        Text(String text, JavaTippTextIndex.Matching matching) {
+            this.text = Objects.requireNonNull(text);
+            this.matching = Objects.requireNonNull(matching);
+            this.matchText = prepare(text);
+        }
+
+        @Override
+        public boolean filter(JavaTipp javaTipp) {
+            String tippText = javaTipp.getText() == null ? "" : javaTipp.getText();
+            return prepare(tippText).contains(matchText);
+        }
+
+        private String prepare(String s) {
+            switch (matching) {
+                case IGNORE_CASE:
+                    return JavaTippTextIndex.lowerCase(s);
+                case NORMALIZED:
+                    return JavaTippTextIndex.normalize(s);
+                default:
+                    return s;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Text)) return false;
+            Text other = (Text) o;
+            return text.equals(other.text) && matching == other.matching;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * text.hashCode() + matching.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "text(" + text + (matching == JavaTippTextIndex.Matching.EXACT ? "" : ", " + matching) + ")";
+        }
+    }
+
+    static final class And extends JavaTippQuery {
+        final List<JavaTippQuery> queries;
+
+        And(JavaTippQuery... queries) {
+            this.queries = copyOf(queries);
+        }
+
+        @Override
+        public boolean filter(JavaTipp javaTipp) {
+            for (JavaTippQuery query : queries) {
+                if (!query.filter(javaTipp)) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof And && queries.equals(((And) o).queries);
+        }
+
+        @Override
+        public int hashCode() {
+            return 3 * queries.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "and" + queries;
+        }
+    }
+
+    static final class Or extends JavaTippQuery {
+        final List<JavaTippQuery> queries;
+
+        Or(JavaTippQuery... queries) {
+            this.queries = copyOf(queries);
+        }
+
+        @Override
+        public boolean filter(JavaTipp javaTipp) {
+            for (JavaTippQuery query : queries) {
+                if (query.filter(javaTipp)) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Or && queries.equals(((Or) o).queries);
+        }
+
+        @Override
+        public int hashCode() {
+            return 5 * queries.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "or" + queries;
+        }
+    }
+
+    static final class Not extends JavaTippQuery {
+        final JavaTippQuery query;
+
+        Not(JavaTippQuery query) {
+            this.query = Objects.requireNonNull(query);
+        }
+
+        @Override
+        public boolean filter(JavaTipp javaTipp) {
+            return !query.filter(javaTipp);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Not && query.equals(((Not) o).query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 7 * query.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "not(" + query + ")";
+        }
+    }
+
+    private static List<JavaTippQuery> copyOf(JavaTippQuery[] queries) {
+        JavaTippQuery[] copy = queries.clone();
+        for (JavaTippQuery query : copy) {
+            Objects.requireNonNull(query);
+        }
+        return Collections.unmodifiableList(Arrays.asList(copy));
+    }
+}
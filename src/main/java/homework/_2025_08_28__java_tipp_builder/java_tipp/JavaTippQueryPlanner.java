@@ -0,0 +1,274 @@
+package homework._2025_08_28__java_tipp_builder.java_tipp;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Executes {@link JavaTippQuery}s with the indexes instead of testing every tip.
+ * <p>
+ * A query is compiled once into a plan and the plan is cached; the cache holds at most
+ * {@value #MAX_CACHED_PLANS} plans and is emptied when it is full, so that many distinct ad-hoc queries
+ * cannot grow it without limit. Topic conditions read the posting
+ * lists of the {@link JavaTippIndex}, text conditions use the {@link JavaTippTextIndex} if one is given,
+ * otherwise they test only the tips which are still candidates. The conditions of an {@code and} are
+ * ordered by their estimated number of hits, so that the most selective one runs first and every
+ * following one only has to look at the remaining candidates.
+ * <p>
+ * Both indexes must contain the same tips in the same order. The estimates are taken when a query
+ * is compiled; if the indexes grow afterwards, cached plans stay correct, only the order may be less optimal.
+ */
+public class JavaTippQueryPlanner {
+    static final int MAX_CACHED_PLANS = 1024;
+
+    private final JavaTippIndex topicIndex;
+    private final JavaTippTextIndex textIndex;
+    private final ConcurrentMap<JavaTippQuery, Plan> plans = new ConcurrentHashMap<>();
+
+    public JavaTippQueryPlanner(JavaTippIndex topicIndex) {
+        this(topicIndex, null);
+    }
+
+    public JavaTippQueryPlanner(JavaTippIndex topicIndex, JavaTippTextIndex textIndex) {
+        this.topicIndex = topicIndex;
+        this.textIndex = textIndex;
+    }
+
+    /**
+     * Ids of all tips matching the query.
+     */
+    public BitSet execute(JavaTippQuery query) {
+        if (textIndex != null && textIndex.size() != topicIndex.size()) {
+            throw new IllegalStateException("Topic index has " + topicIndex.size() + " tips, text index " + textIndex.size());
+        }
+        return plan(query).evaluate(topicIndex.all());
+    }
+
+    public List<JavaTipp> find(JavaTippQuery query) {
+        return topicIndex.tipps(execute(query));
+    }
+
+    /**
+     * Describes the plan of the query in execution order, with the estimated number of hits per step.
+     */
+    public String explain(JavaTippQuery query) {
+        return plan(query).toString();
+    }
+
+    int cachedPlans() {
+        return plans.size();
+    }
+
+    private Plan plan(JavaTippQuery query) {
+        Plan plan = plans.get(query);
+        if (plan == null) {
+            if (plans.size() >= MAX_CACHED_PLANS) {
+                plans.clear();
+            }
+            plan = plans.computeIfAbsent(query, this::compile);
+        }
+        return plan;
+    }
+
+    private Plan compile(JavaTippQuery query) {
+        if (query instanceof JavaTippQuery.Topic) {
+            return new TopicPlan(((JavaTippQuery.Topic) query).topic);
+        }
+        if (query instanceof JavaTippQuery.Text) {
+            JavaTippQuery.Text text = (JavaTippQuery.Text) query;
+            return textIndex != null ? new TextPlan(text) : new ScanPlan(text);
+        }
+        if (query instanceof JavaTippQuery.Not) {
+            return new NotPlan(compile(((JavaTippQuery.Not) query).query));
+        }
+        if (query instanceof JavaTippQuery.And) {
+            List<Plan> children = compileAll(((JavaTippQuery.And) query).queries);
+            children.sort(Comparator.comparingInt(p -> p.estimate));
+            return new AndPlan(children);
+        }
+        if (query instanceof JavaTippQuery.Or) {
+            List<Plan> children = compileAll(((JavaTippQuery.Or) query).queries);
+            children.sort(Comparator.comparingInt((Plan p) -> p.estimate).reversed());
+            return new OrPlan(children);
+        }
+        throw new IllegalArgumentException("Unknown query type: " + query.getClass().getName());
+    }
+
+    private List<Plan> compileAll(List<JavaTippQuery> queries) {
+        List<Plan> plans = new ArrayList<>(queries.size());
+        for (JavaTippQuery query : queries) {
+            plans.add(compile(query));
+        }
+        return plans;
+    }
+
+    /**
+     * Step of a compiled query. {@link #evaluate(BitSet)} returns the subset of the candidates which match;
+     * the candidates are not modified.
+     */
+    private abstract static class Plan {
+        final int estimate;
+
+        Plan(int estimate) {
+            this.estimate = estimate;
+        }
+
+        abstract BitSet evaluate(BitSet candidates);
+    }
+
+    private final class TopicPlan extends Plan {
+        private final String topic;
+
+        TopicPlan(String topic) {
+            super(topicIndex.count(topic));
+            this.topic = topic;
+        }
+
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            BitSet posting = topicIndex.posting(topic);
+            if (posting == null) return new BitSet();
+            BitSet result = (BitSet) posting.clone();
+            result.and(candidates);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "topic(" + topic + ")~" + estimate;
+        }
+    }
+
+    private final class TextPlan extends Plan {
+        private final JavaTippQuery.Text text;
+
+        TextPlan(JavaTippQuery.Text text) {
+            super(textIndex.estimate(text.text));
+            this.text = text;
+        }
+
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            return textIndex.search(text.text, text.matching, candidates);
+        }
+
+        @Override
+        public String toString() {
+            return text + "~" + estimate;
+        }
+    }
+
+    /**
+     * Text condition without a text index: tests the remaining candidates one by one, so it runs last in an {@code and}.
+     */
+    private final class ScanPlan extends Plan {
+        private final JavaTippQuery query;
+
+        ScanPlan(JavaTippQuery query) {
+            super(Integer.MAX_VALUE);
+            this.query = query;
+        }
+
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            BitSet result = new BitSet();
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                if (query.filter(topicIndex.get(id))) {
+                    result.set(id);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "scan " + query;
+        }
+    }
+
+    private final class NotPlan extends Plan {
+        private final Plan plan;
+
+        NotPlan(Plan plan) {
+            super(plan.estimate == Integer.MAX_VALUE ? Integer.MAX_VALUE : Math.max(0, topicIndex.size() - plan.estimate));
+            this.plan = plan;
+        }
+
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            BitSet result = (BitSet) candidates.clone();
+            result.andNot(plan.evaluate(candidates));
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "not(" + plan + ")~" + estimate;
+        }
+    }
+
+    private static final class AndPlan extends Plan {
+        private final List<Plan> plans;
+
+        AndPlan(List<Plan> plans) {
+            super(plans.isEmpty() ? Integer.MAX_VALUE : plans.get(0).estimate);
+            this.plans = plans;
+        }
+
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            BitSet result = candidates;
+            for (Plan plan : plans) {
+                if (result.isEmpty()) break;
+                result = plan.evaluate(result);
+            }
+            return result == candidates ? (BitSet) candidates.clone() : result;
+        }
+
+        @Override
+        public String toString() {
+            return "and" + plans;
+        }
+    }
+
+    private static final class OrPlan extends Plan {
+        private final List<Plan> plans;
+
+        OrPlan(List<Plan> plans) {
+            super(sum(plans));
+            this.plans = plans;
+        }
+
+        private static int sum(List<Plan> plans) {
+            long sum = 0;
+            for (Plan plan : plans) {
+                sum += plan.estimate;
+            }
+            return (int) Math.min(sum, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Every branch only looks at the candidates which were not matched by an earlier branch.
+         */
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            BitSet result = new BitSet();
+            BitSet remaining = (BitSet) candidates.clone();
+            for (Plan plan : plans) {
+                if (remaining.isEmpty()) break;
+                BitSet matches = plan.evaluate(remaining);
+                result.or(matches);
+                remaining.andNot(matches);
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "or" + plans;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package homework._2025_08_28__java_tipp_builder.java_tipp;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index over the texts of {@link JavaTipp}s for substring search.
+ * <p>
+ * Every text is normalized (lower case, German umlauts and ß spelled out) and split into trigrams,
+ * each trigram owns a {@link BitSet} with the ids of the tips containing it. A query is normalized the
+ * same way, the posting lists of its trigrams are intersected and only the remaining candidates
+ * are checked with {@link String#contains}.
+ * <p>
+ * Tip ids are insertion positions, like in {@link JavaTippIndex}. Not thread-safe.
+ */
+public class JavaTippTextIndex {
+    public enum Matching {
+        /** Same as {@code getText().contains(query)}. */
+        EXACT,
+        /** Ignores upper and lower case. */
+        IGNORE_CASE,
+        /** Ignores case and treats ä/ae, ö/oe, ü/ue and ß/ss as equal. */
+        NORMALIZED
+    }
+
+    private final List<JavaTipp> tipps = new ArrayList<>();
+    private final List<String> normalizedTexts = new ArrayList<>();
+    private final Map<Long, BitSet> postings = new HashMap<>();
+
+    public JavaTippTextIndex() {
+    }
+
+    public JavaTippTextIndex(JavaTipp... tipps) {
+        for (JavaTipp tipp : tipps) {
+            add(tipp);
+        }
+    }
+
+    /**
+     * @return the id of the added tip
+     */
+    public int add(JavaTipp tipp) {
+        int id = tipps.size();
+        String normalized = normalize(textOf(tipp));
+        tipps.add(tipp);
+        normalizedTexts.add(normalized);
+        for (int i = 0; i + 3 <= normalized.length(); i++) {
+            postings.computeIfAbsent(trigram(normalized, i), k -> new BitSet()).set(id);
+        }
+        return id;
+    }
+
+    public int size() {
+        return tipps.size();
+    }
+
+    public JavaTipp get(int id) {
+        return tipps.get(id);
+    }
+
+    public BitSet search(String query) {
+        return search(query, Matching.EXACT);
+    }
+
+    /**
+     * Ids of the tips whose text contains {@code query}.
+     */
+    public BitSet search(String query, Matching matching) {
+        return search(query, matching, null);
+    }
+
+    /**
+     * Like {@link #search(String, Matching)}, but only tips from {@code candidates} are considered
+     * (all tips if {@code candidates} is {@code null}).
+     */
+    public BitSet search(String query, Matching matching, BitSet candidates) {
+        String normalizedQuery = normalize(query);
+        BitSet result = candidates(normalizedQuery, candidates);
+
+        String lowerCaseQuery = matching == Matching.IGNORE_CASE ? lowerCase(query) : null;
+        for (int id = result.nextSetBit(0); id >= 0; id = result.nextSetBit(id + 1)) {
+            boolean matches;
+            switch (matching) {
+                case EXACT:
+                    matches = textOf(tipps.get(id)).contains(query);
+                    break;
+                case IGNORE_CASE:
+                    matches = lowerCase(textOf(tipps.get(id))).contains(lowerCaseQuery);
+                    break;
+                default:
+                    matches = normalizedTexts.get(id).contains(normalizedQuery);
+            }
+            if (!matches) {
+                result.clear(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Upper bound for the number of tips containing {@code query}: the size of its smallest trigram posting list.
+     */
+    public int estimate(String query) {
+        String normalized = normalize(query);
+        if (normalized.length() < 3) return tipps.size();
+
+        int estimate = tipps.size();
+        for (int i = 0; i + 3 <= normalized.length(); i++) {
+            BitSet posting = postings.get(trigram(normalized, i));
+            if (posting == null) return 0;
+            estimate = Math.min(estimate, posting.cardinality());
+        }
+        return estimate;
+    }
+
+    public List<JavaTipp> tipps(BitSet ids) {
+        if (ids.isEmpty()) return Collections.emptyList();
+
+        List<JavaTipp> result = new ArrayList<>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0 && id < tipps.size(); id = ids.nextSetBit(id + 1)) {
+            result.add(tipps.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * Intersection of the posting lists of all trigrams of the normalized query, smallest list first.
+     * With {@code candidates} the lists are intersected into a copy of the candidates, which are usually already
+     * few, instead of copying a posting list first; without them into a copy of the smallest list.
+     */
+    private BitSet candidates(String normalizedQuery, BitSet candidates) {
+        if (normalizedQuery.length() < 3) {
+            BitSet all;
+            if (candidates != null) {
+                all = (BitSet) candidates.clone();
+                all.clear(tipps.size(), Math.max(tipps.size(), all.length()));
+            } else {
+                all = new BitSet(tipps.size());
+                all.set(0, tipps.size());
+            }
+            return all;
+        }
+
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= normalizedQuery.length(); i++) {
+            trigrams.add(trigram(normalizedQuery, i));
+        }
+        List<BitSet> lists = new ArrayList<>(trigrams.size());
+        for (Long trigram : trigrams) {
+            BitSet posting = postings.get(trigram);
+            if (posting == null) return new BitSet();
+            lists.add(posting);
+        }
+        lists.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+
+        BitSet result;
+        int first;
+        if (candidates != null) {
+            result = (BitSet) candidates.clone();
+            first = 0;
+        } else {
+            result = (BitSet) lists.get(0).clone();
+            first = 1;
+        }
+        for (int i = first; i < lists.size() && !result.isEmpty(); i++) {
+            result.and(lists.get(i));
+        }
+        return result;
+    }
+
+    private static long trigram(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+
+    private static String textOf(JavaTipp tipp) {
+        return tipp.getText() == null ? "" : tipp.getText();
+    }
+
+    /**
+     * Lower case char by char, so that the result of a substring is always a substring of the result.
+     */
+    static String lowerCase(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            sb.append(Character.toLowerCase(s.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    static String normalize(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 8);
+        for (int i = 0; i < s.length(); i++) {
+            char c = Character.toLowerCase(s.charAt(i));
+            switch (c) {
+                case '\u00e4': // ä
+                    sb.append("ae");
+                    break;
+                case '\u00f6': // ö
+                    sb.append("oe");
+                    break;
+                case '\u00fc': // ü
+                    sb.append("ue");
+                    break;
+                case '\u00df': // ß
+                    sb.append("ss");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package homework._2025_08_28__java_tipp_builder.java_tipp;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared, thread-safe dictionary which maps every topic name to a small int id.
+ * Tips only store these ids, so each topic string exists once no matter how many tips use it.
+ * <p>
+ * The names are kept in an array which doubles when it is full, so interning {@code T} topics costs O(T)
+ * copies in total. A name is written before {@code count} and the id map are updated, so a reader which
+ * got an id from either of them also sees the name.
+ */
+final class TopicDictionary {
+    static final TopicDictionary INSTANCE = new TopicDictionary();
+
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[16];
+    private volatile int count;
+
+    private TopicDictionary() {
+    }
+
+    int intern(String topic) {
+        Integer id = ids.get(topic);
+        if (id != null) return id;
+
+        synchronized (this) {
+            id = ids.get(topic);
+            if (id != null) return id;
+
+            int newId = count;
+            if (newId == names.length) {
+                names = Arrays.copyOf(names, newId * 2);
+            }
+            names[newId] = topic;
+            count = newId + 1;
+            ids.put(topic, newId);
+            return newId;
+        }
+    }
+
+    /**
+     * @return the id of the topic, or -1 if no tip has used it yet
+     */
+    int idOf(String topic) {
+        Integer id = ids.get(topic);
+        return id == null ? -1 : id;
+    }
+
+    String name(int id) {
+        if (id >= count) {
+            throw new IndexOutOfBoundsException("Unknown topic id: " + id);
+        }
+        return names[id];
+    }
+
+    int size() {
+        return count;
+    }
+}
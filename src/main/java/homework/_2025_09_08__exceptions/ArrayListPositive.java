@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 public class ArrayListPositive<T> extends ArrayList<T> {
+    private ValidationMode validationMode = ValidationMode.DIAGNOSTIC;
+
     public ArrayListPositive() {
         super();
     }
@@ -12,12 +14,23 @@ public class ArrayListPositive<T> extends ArrayList<T> {
         super(initialCapacity);
     }
 
+    public ValidationMode getValidationMode() {
+        return validationMode;
+    }
+
+    public void setValidationMode(ValidationMode validationMode) {
+        if (validationMode == null) {
+            throw new NullPointerException();
+        }
+        this.validationMode = validationMode;
+    }
+
     public void checkType(T value) {
         if (value == null) {
             throw new NullPointerException();
         } else if (value instanceof Integer) {
             if ((Integer) value > 0) return;
-            throw new NotPositiveArgumentException();
+            throw validationMode.notPositive();
         }
 
         throw new IllegalArgumentException("Only Integer type is allowed. Arg is: " + value.getClass().getCanonicalName());
@@ -57,4 +70,36 @@ public class ArrayListPositive<T> extends ArrayList<T> {
         c.forEach(this::checkType);
         return super.addAll(index, c);
     }
+
+    /**
+     * Adds every valid value of the collection in one pass. Invalid values are skipped
+     * and reported in the returned {@link RejectReport} instead of being thrown.
+     */
+    public RejectReport addAllValid(Collection<? extends T> c) {
+        RejectReport.Builder report = new RejectReport.Builder();
+        ensureCapacity(size() + c.size());
+
+        int index = 0;
+        int accepted = 0;
+        for (T value : c) {
+            RejectReport.Reason reason = rejectReason(value);
+            if (reason == null) {
+                super.add(value);
+                accepted++;
+            } else {
+                report.reject(index, reason);
+            }
+            index++;
+        }
+
+        report.accepted(accepted);
+        return report.build();
+    }
+
+    private static RejectReport.Reason rejectReason(Object value) {
+        if (value == null) return RejectReport.Reason.NULL;
+        if (!(value instanceof Integer)) return RejectReport.Reason.WRONG_TYPE;
+        if ((Integer) value <= 0) return RejectReport.Reason.NOT_POSITIVE;
+        return null;
+    }
 }
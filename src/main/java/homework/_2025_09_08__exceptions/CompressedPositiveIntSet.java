@@ -0,0 +1,327 @@
+package homework._2025_09_08__exceptions;
+
+import java.util.Arrays;
+
+/**
+ * Immutable sorted set of positive ints in compressed form.
+ * <p>
+ * Values are grouped in blocks of {@value #BLOCK_SIZE}. For every block the first value and the byte
+ * offset of its data are kept in a small index; the remaining values of the block are stored as
+ * variable-length encoded gaps to their predecessor. Lookups binary search the index and decode
+ * a single block, intersections skip whole blocks via the index.
+ */
+public final class CompressedPositiveIntSet {
+    private static final int BLOCK_SIZE = 128;
+    private static final CompressedPositiveIntSet EMPTY = new Builder().build();
+
+    private final int size;
+    private final int blockCount;
+    private final int[] blockFirst;
+    private final int[] blockOffset;
+    private final byte[] data;
+
+    private CompressedPositiveIntSet(int size, int blockCount, int[] blockFirst, int[] blockOffset, byte[] data) {
+        this.size = size;
+        this.blockCount = blockCount;
+        this.blockFirst = blockFirst;
+        this.blockOffset = blockOffset;
+        this.data = data;
+    }
+
+    /**
+     * Builds a set from arbitrary values; they are sorted and duplicates are removed.
+     *
+     * @throws NotPositiveArgumentException if any value is not positive
+     */
+    public static CompressedPositiveIntSet of(int... values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        Builder builder = new Builder();
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                builder.add(sorted[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    public static CompressedPositiveIntSet of(IntArrayListPositive list) {
+        return of(list.toArray());
+    }
+
+    public static CompressedPositiveIntSet empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Size of the compressed data and the block index in bytes.
+     */
+    public long sizeInBytes() {
+        return data.length + 8L * blockCount;
+    }
+
+    public boolean contains(int value) {
+        int block = blockOf(value);
+        if (block < 0) return false;
+
+        int current = blockFirst[block];
+        if (current == value) return true;
+        int pos = blockOffset[block];
+        int end = blockOffset[block + 1];
+        while (pos < end) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            current += gap + 1;
+            if (current >= value) return current == value;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of elements which are smaller than {@code value}.
+     */
+    public int rank(int value) {
+        int block = blockOf(value);
+        if (block < 0) return 0;
+
+        int rank = block * BLOCK_SIZE;
+        int current = blockFirst[block];
+        int pos = blockOffset[block];
+        int end = blockOffset[block + 1];
+        while (current < value) {
+            rank++;
+            if (pos == end) break;
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            current += gap + 1;
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the element with the given rank, i.e. the {@code rank}-th smallest element (0-based).
+     */
+    public int select(int rank) {
+        if (rank < 0 || rank >= size) {
+            throw new IndexOutOfBoundsException("Rank: " + rank + ", Size: " + size);
+        }
+        int block = rank / BLOCK_SIZE;
+        int current = blockFirst[block];
+        int pos = blockOffset[block];
+        for (int i = rank % BLOCK_SIZE; i > 0; i--) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            current += gap + 1;
+        }
+        return current;
+    }
+
+    public CompressedPositiveIntSet intersect(CompressedPositiveIntSet other) {
+        if (isEmpty() || other.isEmpty()) return EMPTY;
+
+        Builder builder = new Builder();
+        Cursor a = new Cursor();
+        Cursor b = other.new Cursor();
+        boolean hasA = a.next();
+        boolean hasB = b.next();
+        while (hasA && hasB) {
+            if (a.current == b.current) {
+                builder.add(a.current);
+                hasA = a.next();
+                hasB = b.next();
+            } else if (a.current < b.current) {
+                hasA = a.advanceTo(b.current);
+            } else {
+                hasB = b.advanceTo(a.current);
+            }
+        }
+        return builder.build();
+    }
+
+    public CompressedPositiveIntSet union(CompressedPositiveIntSet other) {
+        if (other.isEmpty()) return this;
+        if (isEmpty()) return other;
+
+        Builder builder = new Builder();
+        Cursor a = new Cursor();
+        Cursor b = other.new Cursor();
+        boolean hasA = a.next();
+        boolean hasB = b.next();
+        while (hasA || hasB) {
+            if (!hasB || (hasA && a.current < b.current)) {
+                builder.add(a.current);
+                hasA = a.next();
+            } else if (!hasA || b.current < a.current) {
+                builder.add(b.current);
+                hasB = b.next();
+            } else {
+                builder.add(a.current);
+                hasA = a.next();
+                hasB = b.next();
+            }
+        }
+        return builder.build();
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size];
+        Cursor cursor = new Cursor();
+        for (int i = 0; cursor.next(); i++) {
+            result[i] = cursor.current;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Index of the last block whose first value is not greater than {@code value}, or -1.
+     */
+    private int blockOf(int value) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (blockFirst[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Forward-only iterator over the elements.
+     */
+    private final class Cursor {
+        private int block = -1;
+        private int remainingInBlock;
+        private int pos;
+        int current;
+
+        boolean next() {
+            if (remainingInBlock > 0) {
+                int gap = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[pos++];
+                    gap |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                current += gap + 1;
+                remainingInBlock--;
+                return true;
+            }
+            return enterBlock(block + 1);
+        }
+
+        /**
+         * Moves to the first element which is not smaller than {@code target}.
+         * Blocks which end before the target are skipped without being decoded.
+         */
+        boolean advanceTo(int target) {
+            int targetBlock = blockOf(target);
+            if (targetBlock > block && !enterBlock(targetBlock)) {
+                return false;
+            }
+            while (current < target) {
+                if (!next()) return false;
+            }
+            return true;
+        }
+
+        private boolean enterBlock(int index) {
+            if (index >= blockCount) return false;
+            block = index;
+            current = blockFirst[index];
+            pos = blockOffset[index];
+            remainingInBlock = Math.min(BLOCK_SIZE, size - index * BLOCK_SIZE) - 1;
+            return true;
+        }
+    }
+
+    /**
+     * Builds a set from values which are added in strictly ascending order.
+     */
+    public static final class Builder {
+        private int size;
+        private int blockCount;
+        private int[] blockFirst = new int[4];
+        private int[] blockOffset = new int[5];
+        private byte[] data = new byte[64];
+        private int dataLength;
+        private int last;
+
+        /**
+         * @throws NotPositiveArgumentException if the value is not positive
+         * @throws IllegalArgumentException     if the value is not greater than the previous one
+         */
+        public Builder add(int value) {
+            IntArrayListPositive.checkPositive(value);
+            if (size > 0 && value <= last) {
+                throw new IllegalArgumentException("Values must be added in strictly ascending order: " + value + " after " + last);
+            }
+
+            if (size % BLOCK_SIZE == 0) {
+                if (blockCount == blockFirst.length) {
+                    blockFirst = Arrays.copyOf(blockFirst, blockCount * 2);
+                    blockOffset = Arrays.copyOf(blockOffset, blockCount * 2 + 1);
+                }
+                blockFirst[blockCount] = value;
+                blockOffset[blockCount] = dataLength;
+                blockCount++;
+            } else {
+                if (dataLength + 5 > data.length) {
+                    data = Arrays.copyOf(data, data.length * 2);
+                }
+                int gap = value - last - 1;
+                while ((gap & ~0x7F) != 0) {
+                    data[dataLength++] = (byte) ((gap & 0x7F) | 0x80);
+                    gap >>>= 7;
+                }
+                data[dataLength++] = (byte) gap;
+            }
+
+            last = value;
+            size++;
+            return this;
+        }
+
+        public CompressedPositiveIntSet build() {
+            int[] offsets = Arrays.copyOf(blockOffset, blockCount + 1);
+            offsets[blockCount] = dataLength;
+            return new CompressedPositiveIntSet(size, blockCount, Arrays.copyOf(blockFirst, blockCount), offsets, Arrays.copyOf(data, dataLength));
+        }
+    }
+}
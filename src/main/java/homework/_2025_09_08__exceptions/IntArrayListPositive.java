@@ -0,0 +1,205 @@
+package homework._2025_09_08__exceptions;
+
+import java.util.Arrays;
+
+/**
+ * Primitive counterpart of {@link ArrayListPositive}: values are kept in a plain {@code int[]},
+ * so adding or reading a value never allocates an {@link Integer} wrapper.
+ * <p>
+ * The validation contract is the same: every value must be greater than 0,
+ * otherwise a {@link NotPositiveArgumentException} is thrown and the list stays unchanged.
+ */
+public class IntArrayListPositive {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private int[] elements;
+    private int size;
+    private ValidationMode validationMode = ValidationMode.DIAGNOSTIC;
+
+    public IntArrayListPositive() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntArrayListPositive(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = new int[initialCapacity];
+    }
+
+    public static void checkPositive(int value) {
+        if (value <= 0) {
+            throw new NotPositiveArgumentException();
+        }
+    }
+
+    public ValidationMode getValidationMode() {
+        return validationMode;
+    }
+
+    public void setValidationMode(ValidationMode validationMode) {
+        if (validationMode == null) {
+            throw new NullPointerException();
+        }
+        this.validationMode = validationMode;
+    }
+
+    private void check(int value) {
+        if (value <= 0) {
+            throw validationMode.notPositive();
+        }
+    }
+
+    public void addInt(int value) {
+        check(value);
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    public void addInt(int index, int value) {
+        checkIndexForAdd(index);
+        check(value);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * Adds all values at once. The whole array is validated before anything is copied,
+     * so a single non-positive value leaves the list unchanged.
+     */
+    public boolean addAll(int[] values) {
+        return addAll(values, 0, values.length);
+    }
+
+    public boolean addAll(int[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Array length: " + values.length);
+        }
+        for (int i = offset; i < offset + length; i++) {
+            check(values[i]);
+        }
+        appendValidated(values, offset, length);
+        return length != 0;
+    }
+
+    /**
+     * Adds every positive value of the array in one pass. Non-positive values are skipped
+     * and reported in the returned {@link RejectReport} instead of being thrown.
+     */
+    public RejectReport addAllValid(int[] values) {
+        RejectReport.Builder report = new RejectReport.Builder();
+        ensureCapacity(size + values.length);
+
+        int[] elements = this.elements;
+        int size = this.size;
+        for (int i = 0; i < values.length; i++) {
+            int value = values[i];
+            if (value > 0) {
+                elements[size++] = value;
+            } else {
+                report.reject(i, RejectReport.Reason.NOT_POSITIVE);
+            }
+        }
+
+        report.accepted(size - this.size);
+        this.size = size;
+        return report.build();
+    }
+
+    /**
+     * Appends values which were already checked by the caller.
+     */
+    void appendValidated(int[] values, int offset, int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(values, offset, elements, size, length);
+        size += length;
+    }
+
+    void appendAll(IntArrayListPositive other) {
+        appendValidated(other.elements, 0, other.size);
+    }
+
+    public int getInt(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public int setInt(int index, int value) {
+        checkIndex(index);
+        check(value);
+        int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    public int removeAt(int index) {
+        checkIndex(index);
+        int old = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        if (minCapacity <= elements.length) return;
+
+        int newCapacity = elements.length + (elements.length >> 1);
+        if (newCapacity < minCapacity || newCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        if (newCapacity > MAX_ARRAY_SIZE) {
+            newCapacity = Math.max(minCapacity, MAX_ARRAY_SIZE);
+        }
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -8,4 +8,25 @@ public class NotPositiveArgumentException extends IllegalArgumentException {
     public NotPositiveArgumentException() {
         super("Integer must be positive!");
     }
+
+    /**
+     * New instance without a stack trace for {@link ValidationMode#FAST_FAIL}: the stack is never walked,
+     * so creating and throwing it costs little more than the allocation.
+     * The instance is of a private subclass, so {@code getClass()} is not {@code NotPositiveArgumentException}.
+     */
+    public static NotPositiveArgumentException stackless() {
+        return new Stackless();
+    }
+
+    /**
+     * {@code IllegalArgumentException} has no constructor with {@code writableStackTrace}, and the
+     * {@code Throwable} constructor calls {@link #fillInStackTrace()} before any field of a subclass is set,
+     * so only a class whose override does nothing unconditionally avoids capturing the stack.
+     */
+    private static final class Stackless extends NotPositiveArgumentException {
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
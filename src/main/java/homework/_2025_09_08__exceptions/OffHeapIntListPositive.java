@@ -0,0 +1,169 @@
+package homework._2025_09_08__exceptions;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * List of positive ints stored outside the Java heap in fixed-size direct {@link ByteBuffer} segments.
+ * <p>
+ * The list grows one segment at a time, so existing values are never copied, and it is indexed
+ * with a {@code long}, so it is not limited by the maximum array length. The native memory is
+ * released as soon as {@link #close()} is called instead of waiting for the garbage collector.
+ * <p>
+ * Direct buffers count against {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap size
+ * ({@code -Xmx}); a segment which does not fit fails with {@code OutOfMemoryError: Direct buffer memory}.
+ * For lists larger than the heap start the JVM with a matching limit, e.g. {@code -XX:MaxDirectMemorySize=8g}
+ * for about two billion values; the limit is shared with all other direct buffers of the process (NIO, Netty, ...).
+ * Not thread-safe.
+ */
+public class OffHeapIntListPositive implements AutoCloseable {
+    private static final int DEFAULT_SEGMENT_SHIFT = 20;
+
+    private final int segmentShift;
+    private final int segmentMask;
+    private ByteBuffer[] segments = new ByteBuffer[8];
+    private int segmentCount;
+    private long size;
+    private boolean closed;
+
+    public OffHeapIntListPositive() {
+        this(DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * @param segmentShift every segment holds {@code 2^segmentShift} ints, between 4 and 28
+     */
+    public OffHeapIntListPositive(int segmentShift) {
+        if (segmentShift < 4 || segmentShift > 28) {
+            throw new IllegalArgumentException("Segment shift must be between 4 and 28: " + segmentShift);
+        }
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+    }
+
+    public void addInt(int value) {
+        IntArrayListPositive.checkPositive(value);
+        checkOpen();
+        int offset = (int) (size & segmentMask);
+        if (offset == 0) {
+            addSegment();
+        }
+        segments[segmentCount - 1].putInt(offset << 2, value);
+        size++;
+    }
+
+    /**
+     * Adds all values at once. The whole array is validated before anything is written,
+     * so a single non-positive value leaves the list unchanged.
+     */
+    public void addAll(int[] values) {
+        for (int value : values) {
+            IntArrayListPositive.checkPositive(value);
+        }
+        checkOpen();
+
+        int copied = 0;
+        while (copied < values.length) {
+            int offset = (int) (size & segmentMask);
+            if (offset == 0) {
+                addSegment();
+            }
+            int length = Math.min(values.length - copied, segmentMask + 1 - offset);
+            ByteBuffer segment = segments[segmentCount - 1].duplicate().order(ByteOrder.nativeOrder());
+            segment.position(offset << 2);
+            segment.asIntBuffer().put(values, copied, length);
+            copied += length;
+            size += length;
+        }
+    }
+
+    public int getInt(long index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return segments[(int) (index >>> segmentShift)].getInt((int) (index & segmentMask) << 2);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Frees all segments. The list can not be used afterwards; calling {@code close()} again has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        for (int i = 0; i < segmentCount; i++) {
+            DirectMemory.free(segments[i]);
+            segments[i] = null;
+        }
+        segmentCount = 0;
+        size = 0;
+    }
+
+    private void addSegment() {
+        if (segmentCount == segments.length) {
+            segments = Arrays.copyOf(segments, segmentCount * 2);
+        }
+        segments[segmentCount++] = ByteBuffer.allocateDirect((segmentMask + 1) << 2).order(ByteOrder.nativeOrder());
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("OffHeapIntListPositive is closed");
+        }
+    }
+
+    /**
+     * Releases the memory of a direct buffer right away. Java 9+ offers {@code Unsafe.invokeCleaner},
+     * Java 8 the buffer's own cleaner. If neither is accessible the memory is freed by the garbage collector.
+     */
+    private static final class DirectMemory {
+        private static final Object UNSAFE;
+        private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                unsafe = theUnsafe.get(null);
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                unsafe = null;
+                invokeCleaner = null;
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+
+        static void free(ByteBuffer buffer) {
+            try {
+                if (INVOKE_CLEANER != null) {
+                    INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                    return;
+                }
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // left to the garbage collector
+            }
+        }
+    }
+}
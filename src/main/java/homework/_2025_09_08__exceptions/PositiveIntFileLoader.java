@@ -0,0 +1,216 @@
+package homework._2025_09_08__exceptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Loads positive integers from a file into an {@link IntArrayListPositive} without boxing.
+ * <p>
+ * The file is memory-mapped region by region (a single mapping is limited to 2 GB),
+ * every value is validated while it is decoded and values are appended in chunks.
+ * In parallel mode the regions are decoded on the common fork/join pool and merged in file order.
+ */
+public class PositiveIntFileLoader {
+    public enum Format {
+        /** 4 bytes per value, little-endian. */
+        INT32_LE,
+        /** One decimal value per line, {@code \n} or {@code \r\n} terminated; empty lines are skipped. */
+        DECIMAL_LINES
+    }
+
+    private static final long MAX_REGION_SIZE = 1L << 30;
+    private static final int CHUNK_SIZE = 8192;
+
+    private PositiveIntFileLoader() {
+    }
+
+    public static IntArrayListPositive load(Path path, Format format) throws IOException {
+        return load(path, format, false);
+    }
+
+    public static IntArrayListPositive load(Path path, Format format, boolean parallel) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (format == Format.INT32_LE && fileSize % 4 != 0) {
+                throw new IllegalArgumentException("File size " + fileSize + " is not a multiple of 4: " + path);
+            }
+
+            long regionCount = (fileSize + MAX_REGION_SIZE - 1) / MAX_REGION_SIZE;
+            if (parallel) {
+                regionCount = Math.max(regionCount, Runtime.getRuntime().availableProcessors());
+            }
+            List<long[]> regions = split(channel, fileSize, format, (int) Math.max(1, regionCount));
+
+            if (regions.size() == 1) {
+                long[] region = regions.get(0);
+                return decode(channel, format, region[0], region[1]);
+            }
+
+            List<IntArrayListPositive> parts;
+            try {
+                parts = (parallel ? regions.parallelStream() : regions.stream())
+                        .map(region -> decodeUnchecked(channel, format, region[0], region[1]))
+                        .collect(Collectors.toList());
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            int total = 0;
+            for (IntArrayListPositive part : parts) {
+                total = Math.addExact(total, part.size());
+            }
+            IntArrayListPositive result = new IntArrayListPositive(total);
+            for (IntArrayListPositive part : parts) {
+                result.appendAll(part);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Splits the file into {@code count} regions of similar size, each given as {start, end}.
+     * Region borders never cut a record in half.
+     */
+    private static List<long[]> split(FileChannel channel, long fileSize, Format format, int count) throws IOException {
+        List<long[]> regions = new ArrayList<>(count);
+        long start = 0;
+        for (int i = 1; i <= count && start < fileSize; i++) {
+            long end = i == count ? fileSize : fileSize / count * i;
+            if (format == Format.INT32_LE) {
+                end -= end % 4;
+            } else {
+                end = nextLineStart(channel, end, fileSize);
+            }
+            if (end > start) {
+                regions.add(new long[]{start, end});
+                start = end;
+            }
+        }
+        if (regions.isEmpty()) {
+            regions.add(new long[]{0, 0});
+        }
+        return regions;
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long fileSize) throws IOException {
+        if (position == 0) return 0;
+
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long current = position - 1;
+        while (current < fileSize) {
+            buffer.clear();
+            int read = channel.read(buffer, current);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return current + i + 1;
+                }
+            }
+            current += read;
+        }
+        return fileSize;
+    }
+
+    private static IntArrayListPositive decodeUnchecked(FileChannel channel, Format format, long start, long end) {
+        try {
+            return decode(channel, format, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static IntArrayListPositive decode(FileChannel channel, Format format, long start, long end) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        if (format == Format.INT32_LE) {
+            return decodeInt32(buffer, start);
+        }
+        return decodeDecimalLines(buffer, start);
+    }
+
+    private static IntArrayListPositive decodeInt32(ByteBuffer buffer, long baseOffset) {
+        IntBuffer ints = buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        IntArrayListPositive list = new IntArrayListPositive(ints.remaining());
+        int[] chunk = new int[Math.min(CHUNK_SIZE, ints.remaining())];
+
+        long offset = baseOffset;
+        while (ints.hasRemaining()) {
+            int length = Math.min(chunk.length, ints.remaining());
+            ints.get(chunk, 0, length);
+            for (int i = 0; i < length; i++) {
+                if (chunk[i] <= 0) {
+                    throw notPositive(chunk[i], offset + 4L * i);
+                }
+            }
+            list.appendValidated(chunk, 0, length);
+            offset += 4L * length;
+        }
+        return list;
+    }
+
+    private static IntArrayListPositive decodeDecimalLines(ByteBuffer buffer, long baseOffset) {
+        int limit = buffer.limit();
+        IntArrayListPositive list = new IntArrayListPositive(Math.max(16, limit / 8));
+        int[] chunk = new int[CHUNK_SIZE];
+        int chunkLength = 0;
+
+        long value = 0;
+        boolean negative = false;
+        boolean hasDigits = false;
+        int lineStart = 0;
+
+        for (int i = 0; i <= limit; i++) {
+            byte b = i < limit ? buffer.get(i) : (byte) '\n';
+
+            if (b >= '0' && b <= '9') {
+                if (value <= Integer.MAX_VALUE) {
+                    value = value * 10 + (b - '0');
+                }
+                hasDigits = true;
+            } else if (b == '\n') {
+                if (hasDigits) {
+                    long signed = negative ? -value : value;
+                    if (signed > Integer.MAX_VALUE || signed < Integer.MIN_VALUE) {
+                        throw new NumberFormatException("Value out of int range at byte offset " + (baseOffset + lineStart));
+                    }
+                    if (signed <= 0) {
+                        throw notPositive(signed, baseOffset + lineStart);
+                    }
+                    chunk[chunkLength++] = (int) signed;
+                    if (chunkLength == chunk.length) {
+                        list.appendValidated(chunk, 0, chunkLength);
+                        chunkLength = 0;
+                    }
+                } else if (negative) {
+                    throw new NumberFormatException("Missing digits at byte offset " + (baseOffset + lineStart));
+                }
+                value = 0;
+                negative = false;
+                hasDigits = false;
+                lineStart = i + 1;
+            } else if (b == '-' && !hasDigits && !negative && i == lineStart) {
+                negative = true;
+            } else if (b == '\r' && (i + 1 == limit || buffer.get(i + 1) == '\n')) {
+                // Windows line ending, the value is completed by the following '\n'
+            } else {
+                throw new NumberFormatException("Unexpected character '" + (char) (b & 0xFF) + "' at byte offset " + (baseOffset + i));
+            }
+        }
+
+        list.appendValidated(chunk, 0, chunkLength);
+        return list;
+    }
+
+    private static NotPositiveArgumentException notPositive(long value, long offset) {
+        return new NotPositiveArgumentException("Integer must be positive! Value " + value + " at byte offset " + offset);
+    }
+}
@@ -0,0 +1,79 @@
+package homework._2025_09_08__exceptions;
+
+import java.util.Arrays;
+
+/**
+ * Result of a batch insert which skips invalid values instead of throwing.
+ * It keeps the indices (in input order) of the rejected values and a counter per {@link Reason}.
+ */
+public class RejectReport {
+    public enum Reason {
+        NULL,
+        WRONG_TYPE,
+        NOT_POSITIVE
+    }
+
+    private final int acceptedCount;
+    private final int[] rejectedIndices;
+    private final int[] countsByReason;
+
+    private RejectReport(int acceptedCount, int[] rejectedIndices, int[] countsByReason) {
+        this.acceptedCount = acceptedCount;
+        this.rejectedIndices = rejectedIndices;
+        this.countsByReason = countsByReason;
+    }
+
+    public int getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedIndices.length;
+    }
+
+    public int[] getRejectedIndices() {
+        return rejectedIndices.clone();
+    }
+
+    public int getCount(Reason reason) {
+        return countsByReason[reason.ordinal()];
+    }
+
+    public boolean isClean() {
+        return rejectedIndices.length == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "RejectReport: accepted " + acceptedCount
+                + ", rejected " + rejectedIndices.length
+                + " (null: " + getCount(Reason.NULL)
+                + ", wrong type: " + getCount(Reason.WRONG_TYPE)
+                + ", not positive: " + getCount(Reason.NOT_POSITIVE) + ")";
+    }
+
+    static class Builder {
+        private static final int[] EMPTY = new int[0];
+
+        private int acceptedCount;
+        private int[] rejectedIndices = EMPTY;
+        private int rejectedCount;
+        private final int[] countsByReason = new int[Reason.values().length];
+
+        void accepted(int count) {
+            acceptedCount += count;
+        }
+
+        void reject(int index, Reason reason) {
+            if (rejectedCount == rejectedIndices.length) {
+                rejectedIndices = Arrays.copyOf(rejectedIndices, Math.max(8, rejectedCount * 2));
+            }
+            rejectedIndices[rejectedCount++] = index;
+            countsByReason[reason.ordinal()]++;
+        }
+
+        RejectReport build() {
+            return new RejectReport(acceptedCount, Arrays.copyOf(rejectedIndices, rejectedCount), countsByReason.clone());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package homework._2025_09_08__exceptions;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe list of positive ints for many concurrent writers.
+ * <p>
+ * Instead of one monitor for the whole list (as with {@code Collections.synchronizedList}) every
+ * writer thread is mapped to one of several stripes, each with its own lock and {@code int[]} buffer,
+ * so writers on different stripes never contend. The stripes are merged only when a
+ * {@link #snapshot()} is taken. Values keep the order in which they were added per thread,
+ * but there is no global order across threads.
+ */
+public class StripedIntListPositive {
+    private final Stripe[] stripes;
+    private final int mask;
+    private final LongAdder size = new LongAdder();
+
+    public StripedIntListPositive() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public StripedIntListPositive(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Illegal stripe count: " + stripeCount);
+        }
+        int count = Integer.highestOneBit(Math.min(stripeCount, 1 << 16));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = count - 1;
+    }
+
+    public void addInt(int value) {
+        IntArrayListPositive.checkPositive(value);
+        Stripe stripe = currentStripe();
+        synchronized (stripe) {
+            stripe.values.addInt(value);
+        }
+        size.increment();
+    }
+
+    /**
+     * Adds all values under a single stripe lock. The array is validated before the lock is taken,
+     * so a non-positive value leaves the list unchanged.
+     */
+    public void addAll(int[] values) {
+        for (int value : values) {
+            IntArrayListPositive.checkPositive(value);
+        }
+        Stripe stripe = currentStripe();
+        synchronized (stripe) {
+            stripe.values.appendValidated(values, 0, values.length);
+        }
+        size.add(values.length);
+    }
+
+    /**
+     * Returns the number of added values without taking any lock.
+     * While writers are active the result is an estimate.
+     */
+    public long size() {
+        return size.sum();
+    }
+
+    /**
+     * Copies the content of all stripes into one list. Stripes are locked one after another,
+     * so values added concurrently may or may not be part of the snapshot.
+     */
+    public IntArrayListPositive snapshot() {
+        IntArrayListPositive result = new IntArrayListPositive((int) Math.min(Integer.MAX_VALUE - 8, size.sum()));
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                result.appendAll(stripe.values);
+            }
+        }
+        return result;
+    }
+
+    public int[] toArray() {
+        return snapshot().toArray();
+    }
+
+    private Stripe currentStripe() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Stripe {
+        final IntArrayListPositive values = new IntArrayListPositive();
+    }
+}
@@ -0,0 +1,29 @@
+package homework._2025_09_08__exceptions;
+
+/**
+ * How a list reports a value which is not positive.
+ */
+public enum ValidationMode {
+    /**
+     * A new {@link NotPositiveArgumentException} with the full stack trace is thrown (default).
+     */
+    DIAGNOSTIC {
+        @Override
+        NotPositiveArgumentException notPositive() {
+            return new NotPositiveArgumentException();
+        }
+    },
+
+    /**
+     * A new {@link NotPositiveArgumentException#stackless()} exception without a stack trace is thrown,
+     * for hot loops where bad input is expected and the stack trace is not needed.
+     */
+    FAST_FAIL {
+        @Override
+        NotPositiveArgumentException notPositive() {
+            return NotPositiveArgumentException.stackless();
+        }
+    };
+
+    abstract NotPositiveArgumentException notPositive();
+}
@@ -1,5 +1,6 @@
 package homework._2025_09_10__exceptions_parse_date;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -7,9 +8,26 @@ import java.time.format.FormatStyle;
 import java.time.temporal.ChronoUnit;
 import java.util.Locale;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class DateParser {
+    private static final LocalizedDateRenderer RENDERER = new LocalizedDateRenderer();
+    private static final int PARALLEL_DIFF_THRESHOLD = 1 << 16;
+
+    /**
+     * Without arguments the date is asked interactively on the console. With a file name (or {@code -} for
+     * standard input) as argument, or when no console is attached, all lines are processed by {@link DateStreamProcessor}.
+     */
     public static void main(String[] args) {
+        if (args.length > 0 || System.console() == null) {
+            try {
+                DateStreamProcessor.run(args.length > 0 ? args[0] : "-");
+            } catch (IOException e) {
+                System.err.println("Input can not be read: " + e.getMessage());
+            }
+            return;
+        }
 
         while (true) {
             System.out.print("Enter date in format YYYY-MM-DD: ");
@@ -52,11 +70,7 @@ public class DateParser {
     }
 
     private static String localDateToLocalizedString(LocalDate localDate, Locale locale) {
-        DateTimeFormatter formatter = DateTimeFormatter
-                .ofLocalizedDate(FormatStyle.FULL)
-                .withLocale(locale);
-
-        return localDate.format(formatter);
+        return RENDERER.render(localDate, locale, FormatStyle.FULL);
     }
 
     public static String localDateToFullGermanString(LocalDate localDate) {
@@ -70,4 +84,101 @@ public class DateParser {
     public static long diffBetweenDates(LocalDate fromDate, LocalDate toDate) {
         return Math.abs(ChronoUnit.DAYS.between(fromDate, toDate));
     }
+
+    /**
+     * Bulk variant of {@link #diffBetweenDates(LocalDate, LocalDate)} for epoch-day columns:
+     * {@code out[i] = |toEpochDays[i] - fromEpochDays[i]|}.
+     */
+    public static void diffBetweenDates(int[] fromEpochDays, int[] toEpochDays, long[] out) {
+        checkColumns(fromEpochDays.length, toEpochDays.length, out.length);
+        diffBetweenDates(fromEpochDays, toEpochDays, out, 0, fromEpochDays.length);
+    }
+
+    public static void diffBetweenDates(long[] fromEpochDays, long[] toEpochDays, long[] out) {
+        checkColumns(fromEpochDays.length, toEpochDays.length, out.length);
+        diffBetweenDates(fromEpochDays, toEpochDays, out, 0, fromEpochDays.length);
+    }
+
+    /**
+     * Same as {@link #diffBetweenDates(int[], int[], long[])}, large inputs are split across the common fork/join pool.
+     */
+    public static void parallelDiffBetweenDates(int[] fromEpochDays, int[] toEpochDays, long[] out) {
+        checkColumns(fromEpochDays.length, toEpochDays.length, out.length);
+        ForkJoinPool.commonPool().invoke(new IntDiffTask(fromEpochDays, toEpochDays, out, 0, fromEpochDays.length));
+    }
+
+    public static void parallelDiffBetweenDates(long[] fromEpochDays, long[] toEpochDays, long[] out) {
+        checkColumns(fromEpochDays.length, toEpochDays.length, out.length);
+        ForkJoinPool.commonPool().invoke(new LongDiffTask(fromEpochDays, toEpochDays, out, 0, fromEpochDays.length));
+    }
+
+    private static void checkColumns(int fromLength, int toLength, int outLength) {
+        if (fromLength != toLength || outLength < fromLength) {
+            throw new IllegalArgumentException("Column lengths do not match: from " + fromLength + ", to " + toLength + ", out " + outLength);
+        }
+    }
+
+    private static void diffBetweenDates(int[] from, int[] to, long[] out, int start, int end) {
+        for (int i = start; i < end; i++) {
+            out[i] = Math.abs((long) to[i] - from[i]);
+        }
+    }
+
+    private static void diffBetweenDates(long[] from, long[] to, long[] out, int start, int end) {
+        for (int i = start; i < end; i++) {
+            out[i] = Math.abs(to[i] - from[i]);
+        }
+    }
+
+    private static class IntDiffTask extends RecursiveAction {
+        private final int[] from;
+        private final int[] to;
+        private final long[] out;
+        private final int start;
+        private final int end;
+
+        IntDiffTask(int[] from, int[] to, long[] out, int start, int end) {
+            this.from = from;
+            this.to = to;
+            this.out = out;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= PARALLEL_DIFF_THRESHOLD) {
+                diffBetweenDates(from, to, out, start, end);
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new IntDiffTask(from, to, out, start, middle), new IntDiffTask(from, to, out, middle, end));
+        }
+    }
+
+    private static class LongDiffTask extends RecursiveAction {
+        private final long[] from;
+        private final long[] to;
+        private final long[] out;
+        private final int start;
+        private final int end;
+
+        LongDiffTask(long[] from, long[] to, long[] out, int start, int end) {
+            this.from = from;
+            this.to = to;
+            this.out = out;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= PARALLEL_DIFF_THRESHOLD) {
+                diffBetweenDates(from, to, out, start, end);
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new LongDiffTask(from, to, out, start, middle), new LongDiffTask(from, to, out, middle, end));
+        }
+    }
 }
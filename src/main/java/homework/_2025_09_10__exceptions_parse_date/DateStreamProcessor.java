@@ -0,0 +1,139 @@
+package homework._2025_09_10__exceptions_parse_date;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * Non-interactive mode of {@link DateParser}: reads one date per line from a stream and writes one
+ * tab-separated result line per date.
+ * <p>
+ * Lines are split directly in a large char buffer and collected in batches, every batch is parsed by
+ * {@link IsoDateBulkParser}, the differences to today are computed column-wise and the results are
+ * written through a single buffered writer. Blank lines are skipped.
+ * <p>
+ * Output columns: input, ISO date, German date, US date, days between today and the date.
+ * A line which can not be parsed is written as input followed by {@code INVALID}.
+ */
+public class DateStreamProcessor {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int BATCH_SIZE = 8192;
+
+    private final LocalizedDateRenderer renderer = new LocalizedDateRenderer();
+
+    private final StringBuilder text = new StringBuilder(BATCH_SIZE * 12);
+    private final int[] offsets = new int[BATCH_SIZE];
+    private final int[] lengths = new int[BATCH_SIZE];
+    private final int[] epochDays = new int[BATCH_SIZE];
+    private final int[] todayColumn = new int[BATCH_SIZE];
+    private final long[] diffs = new long[BATCH_SIZE];
+    private final BitSet malformed = new BitSet(BATCH_SIZE);
+    private int count;
+    private int rowStart;
+
+    public DateStreamProcessor(LocalDate today) {
+        Arrays.fill(todayColumn, Math.toIntExact(today.toEpochDay()));
+    }
+
+    /**
+     * Reads dates from the file, or from standard input for {@code "-"}, and writes the results to standard output.
+     */
+    public static long run(String source) throws IOException {
+        InputStream input = "-".equals(source) ? System.in : Files.newInputStream(Paths.get(source));
+        Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            return new DateStreamProcessor(LocalDate.now()).process(reader, output);
+        } finally {
+            output.flush();
+        }
+    }
+
+    /**
+     * Processes all lines of {@code in}. The writer is flushed but not closed.
+     *
+     * @return the number of processed (non-blank) lines
+     */
+    public long process(Reader in, Writer out) throws IOException {
+        long processed = 0;
+        char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            int start = 0;
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    text.append(buffer, start, i - start);
+                    processed += endRow(out);
+                    start = i + 1;
+                }
+            }
+            text.append(buffer, start, read - start);
+        }
+        if (text.length() > rowStart) {
+            processed += endRow(out);
+        }
+        processBatch(out);
+        out.flush();
+        return processed;
+    }
+
+    private int endRow(Writer out) throws IOException {
+        int start = rowStart;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') start++;
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+
+        if (start == end) {
+            text.setLength(rowStart);
+            return 0;
+        }
+
+        offsets[count] = start;
+        lengths[count] = end - start;
+        count++;
+        rowStart = text.length();
+        if (count == BATCH_SIZE) {
+            processBatch(out);
+        }
+        return 1;
+    }
+
+    private void processBatch(Writer out) throws IOException {
+        if (count == 0) return;
+
+        malformed.clear();
+        IsoDateBulkParser.parse(text, offsets, lengths, count, epochDays, malformed);
+        DateParser.diffBetweenDates(epochDays, todayColumn, diffs);
+
+        for (int i = 0; i < count; i++) {
+            out.append(text, offsets[i], offsets[i] + lengths[i]).write('\t');
+            if (malformed.get(i)) {
+                out.write("INVALID\n");
+                continue;
+            }
+            LocalDate date = LocalDate.ofEpochDay(epochDays[i]);
+            out.write(DateParser.localDateToISOString(date));
+            out.write('\t');
+            out.write(renderer.renderFull(date, Locale.GERMAN));
+            out.write('\t');
+            out.write(renderer.renderFull(date, Locale.US));
+            out.write('\t');
+            out.write(Long.toString(diffs[i]));
+            out.write('\n');
+        }
+
+        text.setLength(0);
+        count = 0;
+        rowStart = 0;
+    }
+}
@@ -0,0 +1,146 @@
+package homework._2025_09_10__exceptions_parse_date;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * Parses many ISO dates at once into epoch days ({@link LocalDate#toEpochDay()}).
+ * <p>
+ * Rows in the common {@code YYYY-MM-DD} form are decoded digit by digit without a formatter.
+ * Any other row (e.g. with an offset like {@code 2025-01-01+01:00}, or with a year beyond 9999) is handed
+ * to {@link DateParser#parseString(String)}, so the results are always the same as with
+ * {@link java.time.format.DateTimeFormatter#ISO_DATE}. Malformed rows do not throw:
+ * their bit is set in the {@code malformed} bitmap and their epoch day is 0.
+ */
+public final class IsoDateBulkParser {
+    private static final int DAYS_0000_TO_1970 = 719_528;
+
+    // Markers which are no valid result: the fast path only produces epoch days of years 0000-9999
+    // and the slow path rejects everything below MIN_VALUE + 2.
+    private static final int MALFORMED = Integer.MIN_VALUE;
+    private static final int FALLBACK = Integer.MIN_VALUE + 1;
+
+    private IsoDateBulkParser() {
+    }
+
+    /**
+     * Parses row {@code i} given by {@code text[offsets[i], offsets[i] + lengths[i])} for every {@code i < count}.
+     *
+     * @return the number of malformed rows
+     */
+    public static int parse(CharSequence text, int[] offsets, int[] lengths, int count, int[] epochDays, BitSet malformed) {
+        int malformedCount = 0;
+        for (int i = 0; i < count; i++) {
+            int offset = offsets[i];
+            int length = lengths[i];
+            int result = length == 10 ? parseFast(text, offset) : FALLBACK;
+            if (result == FALLBACK) {
+                result = parseSlow(text.subSequence(offset, offset + length).toString());
+            }
+            if (result == MALFORMED) {
+                epochDays[i] = 0;
+                malformed.set(i);
+                malformedCount++;
+            } else {
+                epochDays[i] = result;
+            }
+        }
+        return malformedCount;
+    }
+
+    /**
+     * Same as {@link #parse(CharSequence, int[], int[], int, int[], BitSet)} for ASCII bytes;
+     * offsets are absolute positions in the buffer.
+     *
+     * @return the number of malformed rows
+     */
+    public static int parse(ByteBuffer bytes, int[] offsets, int[] lengths, int count, int[] epochDays, BitSet malformed) {
+        int malformedCount = 0;
+        for (int i = 0; i < count; i++) {
+            int offset = offsets[i];
+            int length = lengths[i];
+            int result = length == 10 ? parseFast(bytes, offset) : FALLBACK;
+            if (result == FALLBACK) {
+                byte[] row = new byte[length];
+                for (int j = 0; j < length; j++) {
+                    row[j] = bytes.get(offset + j);
+                }
+                result = parseSlow(new String(row, StandardCharsets.ISO_8859_1));
+            }
+            if (result == MALFORMED) {
+                epochDays[i] = 0;
+                malformed.set(i);
+                malformedCount++;
+            } else {
+                epochDays[i] = result;
+            }
+        }
+        return malformedCount;
+    }
+
+    private static int parseFast(CharSequence s, int o) {
+        if (s.charAt(o + 4) != '-' || s.charAt(o + 7) != '-') return FALLBACK;
+        int y0 = s.charAt(o) - '0';
+        int y1 = s.charAt(o + 1) - '0';
+        int y2 = s.charAt(o + 2) - '0';
+        int y3 = s.charAt(o + 3) - '0';
+        int m0 = s.charAt(o + 5) - '0';
+        int m1 = s.charAt(o + 6) - '0';
+        int d0 = s.charAt(o + 8) - '0';
+        int d1 = s.charAt(o + 9) - '0';
+        if ((y0 | y1 | y2 | y3 | m0 | m1 | d0 | d1) < 0
+                || y0 > 9 || y1 > 9 || y2 > 9 || y3 > 9 || m0 > 9 || m1 > 9 || d0 > 9 || d1 > 9) {
+            return FALLBACK;
+        }
+        return toEpochDay(y0 * 1000 + y1 * 100 + y2 * 10 + y3, m0 * 10 + m1, d0 * 10 + d1);
+    }
+
+    private static int parseFast(ByteBuffer b, int o) {
+        if (b.get(o + 4) != '-' || b.get(o + 7) != '-') return FALLBACK;
+        int y0 = b.get(o) - '0';
+        int y1 = b.get(o + 1) - '0';
+        int y2 = b.get(o + 2) - '0';
+        int y3 = b.get(o + 3) - '0';
+        int m0 = b.get(o + 5) - '0';
+        int m1 = b.get(o + 6) - '0';
+        int d0 = b.get(o + 8) - '0';
+        int d1 = b.get(o + 9) - '0';
+        if ((y0 | y1 | y2 | y3 | m0 | m1 | d0 | d1) < 0
+                || y0 > 9 || y1 > 9 || y2 > 9 || y3 > 9 || m0 > 9 || m1 > 9 || d0 > 9 || d1 > 9) {
+            return FALLBACK;
+        }
+        return toEpochDay(y0 * 1000 + y1 * 100 + y2 * 10 + y3, m0 * 10 + m1, d0 * 10 + d1);
+    }
+
+    private static int parseSlow(String row) {
+        try {
+            long epochDay = DateParser.parseString(row).toEpochDay();
+            if (epochDay < Integer.MIN_VALUE + 2 || epochDay > Integer.MAX_VALUE) return MALFORMED;
+            return (int) epochDay;
+        } catch (DateTimeException e) {
+            return MALFORMED;
+        }
+    }
+
+    /**
+     * Same calculation as {@link LocalDate#toEpochDay()} for years 0-9999,
+     * including the strict check of the day of month.
+     */
+    private static int toEpochDay(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1) return MALFORMED;
+        boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+        int maxDay = month == 2 ? (leap ? 29 : 28) : (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+        if (day > maxDay) return MALFORMED;
+
+        int total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total -= leap ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -0,0 +1,122 @@
+package homework._2025_09_10__exceptions_parse_date;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Thread-safe rendering of dates as localized text.
+ * <p>
+ * One {@link DateTimeFormatter} is created per (locale, style) pair and reused. Every pair also keeps
+ * a bounded memo of already rendered dates: a direct-mapped table indexed by the low bits of the epoch day,
+ * where a new date replaces the one in its slot. Lookups and inserts neither lock nor box, so threads rendering
+ * the same locale do not wait for each other, and any run of consecutive days up to the table size fits
+ * without evicting each other.
+ */
+public class LocalizedDateRenderer {
+    private static final int DEFAULT_MEMO_SIZE = 1024;
+
+    private final int memoSize;
+    private final ConcurrentMap<Key, Renderer> renderers = new ConcurrentHashMap<>();
+
+    public LocalizedDateRenderer() {
+        this(DEFAULT_MEMO_SIZE);
+    }
+
+    /**
+     * @param memoSize maximum number of rendered dates kept per (locale, style) pair, rounded down to a power
+     *                 of two; 0 disables the memo
+     */
+    public LocalizedDateRenderer(int memoSize) {
+        if (memoSize < 0) {
+            throw new IllegalArgumentException("Illegal memo size: " + memoSize);
+        }
+        this.memoSize = memoSize;
+    }
+
+    public String render(LocalDate localDate, Locale locale, FormatStyle style) {
+        Key key = new Key(locale, style);
+        Renderer renderer = renderers.get(key);
+        if (renderer == null) {
+            renderer = renderers.computeIfAbsent(key, k -> new Renderer(k, memoSize));
+        }
+        return renderer.render(localDate);
+    }
+
+    public String renderFull(LocalDate localDate, Locale locale) {
+        return render(localDate, locale, FormatStyle.FULL);
+    }
+
+    private static final class Key {
+        final Locale locale;
+        final FormatStyle style;
+
+        Key(Locale locale, FormatStyle style) {
+            if (locale == null || style == null) {
+                throw new NullPointerException();
+            }
+            this.locale = locale;
+            this.style = style;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return locale.equals(key.locale) && style == key.style;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * locale.hashCode() + style.hashCode();
+        }
+    }
+
+    private static final class Renderer {
+        final DateTimeFormatter formatter;
+        final AtomicReferenceArray<Rendered> memo;
+        final int mask;
+
+        Renderer(Key key, int memoSize) {
+            this.formatter = DateTimeFormatter.ofLocalizedDate(key.style).withLocale(key.locale);
+            int capacity = Integer.highestOneBit(memoSize);
+            this.memo = capacity == 0 ? null : new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        String render(LocalDate localDate) {
+            if (memo == null) {
+                return localDate.format(formatter);
+            }
+
+            long epochDay = localDate.toEpochDay();
+            int slot = (int) epochDay & mask;
+            Rendered rendered = memo.get(slot);
+            if (rendered != null && rendered.epochDay == epochDay) {
+                return rendered.text;
+            }
+
+            String text = localDate.format(formatter);
+            memo.set(slot, new Rendered(epochDay, text));
+            return text;
+        }
+    }
+
+    /**
+     * Immutable memo entry, so a reader always sees a matching pair of date and text.
+     */
+    private static final class Rendered {
+        final long epochDay;
+        final String text;
+
+        Rendered(long epochDay, String text) {
+            this.epochDay = epochDay;
+            this.text = text;
+        }
+    }
+}
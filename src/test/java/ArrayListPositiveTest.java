@@ -8,6 +8,8 @@ import static org.mockito.Mockito.*;
 
 import homework._2025_09_08__exceptions.ArrayListPositive;
 import homework._2025_09_08__exceptions.NotPositiveArgumentException;
+import homework._2025_09_08__exceptions.RejectReport;
+import homework._2025_09_08__exceptions.ValidationMode;
 
 import java.util.*;
 
@@ -139,4 +141,50 @@ class ArrayListPositiveTest {
         assertEquals(2, arrayListPositiveSpy.get(1));
         assertEquals(3, arrayListPositiveSpy.get(2));
     }
+
+    /**
+     * `addAllValid` fügt alle gültigen Werte hinzu und meldet die ungültigen, ohne eine Exception zu werfen.
+     */
+    @Test
+    void addAllValidReportsRejects() {
+        List<Object> input = Arrays.asList(1, -2, "3", 4, null, 0, 5);
+        RejectReport report = arrayListPositive.addAllValid(input);
+
+        assertEquals(Arrays.asList(1, 4, 5), arrayListPositive);
+        assertEquals(3, report.getAcceptedCount());
+        assertEquals(4, report.getRejectedCount());
+        assertArrayEquals(new int[]{1, 2, 4, 5}, report.getRejectedIndices());
+        assertEquals(1, report.getCount(RejectReport.Reason.NULL));
+        assertEquals(1, report.getCount(RejectReport.Reason.WRONG_TYPE));
+        assertEquals(2, report.getCount(RejectReport.Reason.NOT_POSITIVE));
+    }
+
+    @Test
+    void addAllValidCleanBatch() {
+        RejectReport report = arrayListPositive.addAllValid(Arrays.asList(1, 2, 3));
+        assertTrue(report.isClean());
+        assertEquals(3, report.getAcceptedCount());
+        assertEquals(3, arrayListPositive.size());
+    }
+
+    /**
+     * Im FAST_FAIL-Modus wird für jeden Fehler eine neue Exception ohne Stacktrace geworfen.
+     */
+    @Test
+    void fastFailThrowsStacklessException() {
+        arrayListPositive.setValidationMode(ValidationMode.FAST_FAIL);
+        Exception e1 = assertThrows(NotPositiveArgumentException.class, () -> arrayListPositive.add(-1));
+        Exception e2 = assertThrows(NotPositiveArgumentException.class, () -> arrayListPositive.checkType(0));
+        assertNotSame(e1, e2);
+        assertEquals(0, e1.getStackTrace().length);
+        assertEquals(0, e2.getStackTrace().length);
+        assertEquals(0, arrayListPositive.size());
+    }
+
+    @Test
+    void diagnosticIsDefault() {
+        assertEquals(ValidationMode.DIAGNOSTIC, arrayListPositive.getValidationMode());
+        Exception e = assertThrowsExactly(NotPositiveArgumentException.class, () -> arrayListPositive.add(-1));
+        assertTrue(e.getStackTrace().length > 0);
+    }
 }
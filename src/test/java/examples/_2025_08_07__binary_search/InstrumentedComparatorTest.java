@@ -0,0 +1,108 @@
+package examples._2025_08_07__binary_search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedComparatorTest {
+
+    @Test
+    void countsEveryComparisonExactly() {
+        AtomicLong calls = new AtomicLong();
+        InstrumentedComparator<Integer> instrumented = InstrumentedComparator.of((a, b) -> {
+            calls.incrementAndGet();
+            return Integer.compare(a, b);
+        });
+        Integer[] values = randomValues(10_000);
+        Arrays.sort(values, instrumented);
+        Arrays.binarySearch(values, values[1234], instrumented);
+
+        InstrumentedComparator.Report report = instrumented.report();
+        assertTrue(calls.get() > 0);
+        assertEquals(calls.get(), report.getComparisons());
+        assertEquals(0, report.getSampledComparisons());
+        assertTrue(Double.isNaN(report.getAverageNanos()));
+        assertTrue(Double.isNaN(report.getEstimatedNanos()));
+        assertEquals(calls.get() + " comparisons", report.toString());
+    }
+
+    @Test
+    void samplesAboutOneInIntervalAndStillDelegatesEveryCall() {
+        AtomicLong calls = new AtomicLong();
+        InstrumentedComparator<Integer> instrumented = InstrumentedComparator.of((a, b) -> {
+            calls.incrementAndGet();
+            return Integer.compare(a, b);
+        }, 16);
+        for (int i = 0; i < 160_000; i++) {
+            assertEquals(Integer.compare(i, 80_000), instrumented.compare(i, 80_000));
+        }
+
+        InstrumentedComparator.Report report = instrumented.report();
+        assertEquals(160_000, calls.get());
+        assertEquals(160_000, report.getComparisons());
+        // expected 10_000, the standard deviation is about 100
+        assertEquals(10_000, report.getSampledComparisons(), 600);
+        assertTrue(report.getAverageNanos() >= 0);
+        assertEquals(report.getAverageNanos() * 160_000, report.getEstimatedNanos(), 1e-6);
+
+        InstrumentedComparator<Integer> always = InstrumentedComparator.naturalOrder(1);
+        always.compare(1, 2);
+        always.compare(2, 1);
+        assertEquals(2, always.report().getSampledComparisons());
+
+        assertThrows(IllegalArgumentException.class, () -> InstrumentedComparator.naturalOrder(0));
+        assertThrows(IllegalArgumentException.class, () -> InstrumentedComparator.naturalOrder(12));
+    }
+
+    @Test
+    void resetReturnsTheRunAndClearsTheCounters() {
+        InstrumentedComparator<Integer> instrumented = InstrumentedComparator.naturalOrder(2);
+        for (int i = 0; i < 1_000; i++) {
+            instrumented.compare(i, 500);
+        }
+        InstrumentedComparator.Report run = instrumented.reset();
+        assertEquals(1_000, run.getComparisons());
+        assertTrue(run.getSampledComparisons() > 0);
+
+        InstrumentedComparator.Report cleared = instrumented.report();
+        assertEquals(0, cleared.getComparisons());
+        assertEquals(0, cleared.getSampledComparisons());
+        assertTrue(Double.isNaN(cleared.getAverageNanos()));
+
+        instrumented.compare(1, 2);
+        assertEquals(1, instrumented.reset().getComparisons());
+    }
+
+    @Test
+    void sortsLikeTheWrappedComparator() {
+        Integer[] values = randomValues(5_000);
+        for (Comparator<Integer> comparator : Arrays.<Comparator<Integer>>asList(
+                Comparator.naturalOrder(), Comparator.reverseOrder(), Comparator.comparingInt(v -> v % 100))) {
+            Integer[] expected = values.clone();
+            Arrays.sort(expected, comparator);
+            Integer[] actual = values.clone();
+            Arrays.sort(actual, InstrumentedComparator.of(comparator, 4));
+            assertArrayEquals(expected, actual);
+
+            Integer[] parallel = values.clone();
+            InstrumentedComparator<Integer> instrumented = InstrumentedComparator.of(comparator);
+            Arrays.parallelSort(parallel, instrumented);
+            assertArrayEquals(expected, parallel);
+            assertTrue(instrumented.report().getComparisons() >= values.length - 1);
+        }
+    }
+
+    private static Integer[] randomValues(int count) {
+        Random random = new Random(42);
+        Integer[] values = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextInt(1_000_000);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,107 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class FigureAreaKernelsTest {
+
+    /**
+     * Only runs where the vector kernel is available, i.e. with {@code mvn -P vector test}.
+     */
+    @Test
+    void vectorKernelMatchesScalarKernel() {
+        FigureAreaKernel vector = FigureAreaKernels.vector();
+        assumeTrue(vector != null, "vector kernel not available");
+        FigureAreaKernel scalar = FigureAreaKernels.scalar();
+
+        Random random = new Random(42);
+        // every size up to several vector widths, so that every tail length occurs
+        for (int size = 0; size <= 67; size++) {
+            double[] radii = new double[size + 3];
+            double[] widths = new double[size + 3];
+            double[] heights = new double[size + 3];
+            for (int i = 0; i < radii.length; i++) {
+                if (random.nextBoolean()) {
+                    radii[i] = random.nextDouble() * 100;
+                } else {
+                    widths[i] = random.nextDouble() * 100;
+                    heights[i] = random.nextDouble() * 100;
+                }
+            }
+            assertKernelsEqual(scalar, vector, radii, widths, heights, size);
+        }
+    }
+
+    @Test
+    void scalarKernelMatchesFigures() {
+        double[] radii = {1, 0, 2.5};
+        double[] widths = {0, 3, 0};
+        double[] heights = {0, 4, 0};
+        double[] out = new double[3];
+        FigureAreaKernels.scalar().areas(radii, widths, heights, out, 3);
+        assertArrayEquals(new double[]{new Circle(1).getArea(), new Rectangle(3, 4).getArea(), new Circle(2.5).getArea()}, out);
+        FigureAreaKernels.scalar().partsOfArea(radii, widths, heights, out, 3);
+        assertArrayEquals(new double[]{new Circle(1).getArea() / 2, new Rectangle(3, 4).getPartOfArea(),
+                new Circle(2.5).getArea() / 2}, out);
+    }
+
+    @Test
+    void fallsBackToScalarKernel() {
+        FigureAreaKernel scalar = FigureAreaKernels.scalar();
+        assertSame(scalar, FigureAreaKernels.select(false, FigureAreaKernels.class.getName() + "$Missing"));
+        // class not compiled in this build
+        assertNull(FigureAreaKernels.load(FigureAreaKernels.class.getName() + "$Missing"));
+        assertSame(scalar, FigureAreaKernels.select(true, FigureAreaKernels.class.getName() + "$Missing"));
+        // class present, but a class it needs is not (like jdk.incubator.vector without --add-modules)
+        assertNull(FigureAreaKernels.load(BrokenKernel.class.getName()));
+        assertSame(scalar, FigureAreaKernels.select(true, BrokenKernel.class.getName()));
+
+        assertSame(scalar, FigureAreaKernels.selected(), "only with -D" + FigureAreaKernels.VECTOR_PROPERTY + "=true");
+    }
+
+    private static void assertKernelsEqual(FigureAreaKernel expected, FigureAreaKernel actual,
+                                           double[] radii, double[] widths, double[] heights, int size) {
+        double[] expectedOut = new double[radii.length];
+        double[] actualOut = new double[radii.length];
+        expected.areas(radii, widths, heights, expectedOut, size);
+        actual.areas(radii, widths, heights, actualOut, size);
+        // identical bits, and nothing written beyond size
+        assertArrayEquals(expectedOut, actualOut, "areas, size " + size);
+        assertEquals(sum(expectedOut), sum(actualOut), "total, size " + size);
+
+        expected.partsOfArea(radii, widths, heights, expectedOut, size);
+        actual.partsOfArea(radii, widths, heights, actualOut, size);
+        assertArrayEquals(expectedOut, actualOut, "parts of area, size " + size);
+    }
+
+    private static double sum(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Fails to initialize like a kernel whose dependencies are missing.
+     */
+    static final class BrokenKernel implements FigureAreaKernel {
+        static {
+            if (Boolean.TRUE) {
+                throw new NoClassDefFoundError("jdk/incubator/vector/DoubleVector");
+            }
+        }
+
+        @Override
+        public void areas(double[] radii, double[] widths, double[] heights, double[] out, int size) {
+        }
+
+        @Override
+        public void partsOfArea(double[] radii, double[] widths, double[] heights, double[] out, int size) {
+        }
+    }
+}
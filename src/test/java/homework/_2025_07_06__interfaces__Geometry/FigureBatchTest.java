@@ -0,0 +1,133 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FigureBatchTest {
+
+    @Test
+    void bulkOperationsMatchFigures() {
+        Random random = new Random(42);
+        AreaCalculable[] figures = new AreaCalculable[1_003];
+        for (int i = 0; i < figures.length; i++) {
+            figures[i] = random.nextBoolean()
+                    ? new Circle(random.nextDouble() * 10)
+                    : new Rectangle(random.nextDouble() * 10, random.nextDouble() * 10);
+        }
+        FigureBatch batch = FigureBatch.of(figures);
+        assertEquals(figures.length, batch.size());
+
+        double[] areas = new double[figures.length];
+        double[] parts = new double[figures.length];
+        batch.areas(areas);
+        batch.partsOfArea(parts);
+        double expectedTotal = 0;
+        for (int i = 0; i < figures.length; i++) {
+            assertEquals(figures[i].getArea(), areas[i], "area " + i);
+            assertEquals(figures[i].getArea(), batch.area(i), "area " + i);
+            assertEquals(figures[i].getPartOfArea(), parts[i], "part of area " + i);
+            expectedTotal += figures[i].getArea();
+        }
+        assertEquals(expectedTotal, batch.totalArea(), 1e-9 * expectedTotal);
+        assertEquals(expectedTotal / 2, batch.totalPartOfArea(), 1e-9 * expectedTotal);
+    }
+
+    @Test
+    void ofAndGetRoundTripEveryFigureType() {
+        Circle circle = new Circle(1.5, -2, 3);
+        Rectangle rectangle = new Rectangle(-4, 5, 6, 7);
+        FigureBatch batch = FigureBatch.of(circle, rectangle, new Circle(2), new Rectangle(8, 9));
+
+        assertEquals(FigureBatch.CIRCLE, batch.kind(0));
+        assertEquals(FigureBatch.RECTANGLE, batch.kind(1));
+        assertFigure(circle, batch.get(0));
+        assertFigure(rectangle, batch.get(1));
+        assertFigure(new Circle(2), batch.get(2));
+        assertFigure(new Rectangle(8, 9), batch.get(3));
+        assertEquals(1.5, batch.x(0));
+        assertEquals(5, batch.y(1));
+
+        AreaCalculable[] array = batch.toArray();
+        assertEquals(4, array.length);
+        FigureBatch copy = FigureBatch.of(array);
+        for (int i = 0; i < array.length; i++) {
+            assertFigure(batch.get(i), copy.get(i));
+        }
+    }
+
+    @Test
+    void addGrowsBeyondInitialCapacity() {
+        FigureBatch batch = new FigureBatch(0);
+        for (int i = 0; i < 100; i++) {
+            if (i % 2 == 0) {
+                batch.addCircle(i, -i, i);
+            } else {
+                batch.addRectangle(i, 1);
+            }
+        }
+        assertEquals(100, batch.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? Math.PI * i * i : i, batch.area(i), 1e-9);
+            assertEquals(i % 2 == 0 ? i : 0, batch.x(i));
+        }
+    }
+
+    @Test
+    void setAndResizeUpdateColumns() {
+        FigureBatch batch = FigureBatch.of(new Rectangle(10, 20, 2, 3));
+        batch.resize(40);
+        assertEquals(40, batch.size());
+        assertEquals(6, batch.area(0));
+        for (int i = 1; i < 40; i++) {
+            assertEquals(FigureBatch.CIRCLE, batch.kind(i));
+            assertEquals(0, batch.area(i));
+            assertFigure(new Circle(0), batch.get(i));
+        }
+
+        batch.setCircle(0, 2);
+        batch.setRectangle(39, 4, 5);
+        assertEquals(FigureBatch.CIRCLE, batch.kind(0));
+        assertEquals(Math.PI * 4, batch.area(0));
+        // the shape changes, the position stays
+        assertFigure(new Circle(10, 20, 2), batch.get(0));
+        assertFigure(new Rectangle(4, 5), batch.get(39));
+        assertEquals(Math.PI * 4 + 20, batch.totalArea(), 1e-12);
+
+        batch.resize(40);
+        assertEquals(40, batch.size());
+    }
+
+    @Test
+    void checksIndicesAndArguments() {
+        FigureBatch batch = FigureBatch.of(new Circle(1), new Rectangle(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.area(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.kind(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.setCircle(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.x(5));
+        assertThrows(IllegalArgumentException.class, () -> batch.areas(new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> batch.partsOfArea(new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> batch.resize(1));
+        assertThrows(IllegalArgumentException.class, () -> batch.add(() -> 1));
+        assertThrows(IllegalArgumentException.class, () -> new FigureBatch(-1));
+        assertEquals(2, batch.size());
+
+        double[] larger = new double[5];
+        batch.areas(larger);
+        assertEquals(0, larger[2]);
+    }
+
+    private static void assertFigure(AreaCalculable expected, AreaCalculable actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getArea(), actual.getArea());
+        Placed expectedPlaced = (Placed) expected;
+        Placed actualPlaced = (Placed) actual;
+        assertEquals(expectedPlaced.getX(), actualPlaced.getX());
+        assertEquals(expectedPlaced.getY(), actualPlaced.getY());
+        assertEquals(expectedPlaced.getMaxX(), actualPlaced.getMaxX());
+        assertEquals(expectedPlaced.getMaxY(), actualPlaced.getMaxY());
+    }
+}
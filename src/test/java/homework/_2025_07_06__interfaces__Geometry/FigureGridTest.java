@@ -0,0 +1,199 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FigureGridTest {
+
+    @Test
+    void queryAndOverlapsMatchBruteForce() {
+        Random random = new Random(42);
+        FigureGrid grid = new FigureGrid(2);
+        List<Placed> figures = randomFigures(random, 600, 100);
+        for (Placed figure : figures) {
+            assertTrue(grid.insert(figure));
+        }
+        assertFalse(grid.insert(figures.get(0)));
+        assertEquals(figures.size(), grid.size());
+
+        for (int i = 0; i < 200; i++) {
+            double minX = random.nextDouble() * 120 - 10;
+            double minY = random.nextDouble() * 120 - 10;
+            double maxX = minX + random.nextDouble() * (i % 10 == 0 ? 200 : 10);
+            double maxY = minY + random.nextDouble() * (i % 10 == 0 ? 200 : 10);
+            assertEquals(bruteForceQuery(figures, minX, minY, maxX, maxY), identitySet(grid.query(minX, minY, maxX, maxY)));
+        }
+        assertOverlapsMatch(grid, figures);
+    }
+
+    @Test
+    void moveAndRemoveReindex() {
+        Random random = new Random(7);
+        FigureGrid grid = new FigureGrid(3);
+        List<Placed> figures = randomFigures(random, 300, 60);
+        for (Placed figure : figures) {
+            grid.insert(figure);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            Placed figure = figures.get(random.nextInt(figures.size()));
+            if (i % 5 == 0) {
+                assertTrue(grid.remove(figure));
+                assertFalse(grid.remove(figure));
+                assertFalse(grid.contains(figure));
+                figures.remove(figure);
+                Placed added = randomFigures(random, 1, 60).get(0);
+                grid.insert(added);
+                figures.add(added);
+            } else {
+                // mostly small steps within a cell, sometimes far jumps to other cells
+                double step = i % 7 == 0 ? 100 : 1;
+                grid.move(figure, figure.getX() + (random.nextDouble() - 0.5) * step,
+                        figure.getY() + (random.nextDouble() - 0.5) * step);
+            }
+        }
+
+        assertEquals(figures.size(), grid.size());
+        for (Placed figure : figures) {
+            assertTrue(grid.query(figure.getMinX(), figure.getMinY(), figure.getMaxX(), figure.getMaxY())
+                    .contains(figure));
+        }
+        assertEquals(bruteForceQuery(figures, -1e6, -1e6, 1e6, 1e6), identitySet(grid.query(-1e6, -1e6, 1e6, 1e6)));
+        assertOverlapsMatch(grid, figures);
+    }
+
+    @Test
+    void emptyAndDegenerateQueries() {
+        FigureGrid grid = new FigureGrid(1);
+        assertTrue(grid.query(0, 0, 10, 10).isEmpty());
+
+        Rectangle rectangle = new Rectangle(0, 0, 2, 2);
+        Circle circle = new Circle(5, 5, 1);
+        grid.insert(rectangle);
+        grid.insert(circle);
+
+        // inverted bounds
+        assertTrue(grid.query(3, 3, 1, 1).isEmpty());
+        // point queries: inside, on the border, in the corner of the circle's bounding box
+        assertEquals(Collections.singletonList(rectangle), grid.query(1, 1, 1, 1));
+        assertTrue(grid.query(2, 1, 2, 1).isEmpty());
+        assertTrue(grid.query(5.9, 5.9, 5.9, 5.9).isEmpty());
+        // zero width lines
+        assertEquals(Collections.singletonList(rectangle), grid.query(1, 1, 1, 5));
+        assertEquals(Collections.singletonList(circle), grid.query(5, 0, 5, 5));
+        // touching figures do not overlap
+        grid.insert(new Rectangle(2, 0, 1, 1));
+        assertEquals(0, grid.forEachOverlap((a, b) -> fail()));
+    }
+
+    @Test
+    void hugeFiguresAndQueriesDoNotDependOnCellCount() {
+        FigureGrid grid = new FigureGrid(1);
+        Rectangle huge = new Rectangle(0, 0, 3000, 3000);
+        Rectangle small = new Rectangle(10, 10, 1, 1);
+        grid.insert(huge);
+        grid.insert(small);
+        grid.insert(new Rectangle(-5, -5, 1, 1));
+
+        assertEquals(3, grid.query(-1e6, -1e6, 1e6, 1e6).size());
+        assertEquals(identitySet(huge, small), identitySet(grid.query(5, 5, 20, 20)));
+        assertEquals(1, grid.forEachOverlap((a, b) -> {
+        }));
+
+        grid.move(huge, -1e300, -1e300);
+        assertTrue(grid.query(0, 0, 3000, 3000).contains(small));
+        assertFalse(grid.query(0, 0, 3000, 3000).contains(huge));
+        grid.move(huge, 0, 0);
+        assertEquals(identitySet(huge, small), identitySet(grid.query(5, 5, 20, 20)));
+    }
+
+    @Test
+    void rejectNonFiniteBounds() {
+        FigureGrid grid = new FigureGrid(1);
+        Rectangle rectangle = new Rectangle(0, 0, 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> grid.insert(new Rectangle(0, 0, Double.POSITIVE_INFINITY, 1)));
+        assertThrows(IllegalArgumentException.class, () -> grid.insert(new Circle(Double.NaN, 0, 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> grid.query(Double.NEGATIVE_INFINITY, 0, Double.POSITIVE_INFINITY, 1));
+        assertEquals(0, grid.size());
+
+        grid.insert(rectangle);
+        assertThrows(IllegalArgumentException.class, () -> grid.move(rectangle, Double.POSITIVE_INFINITY, 0));
+        assertEquals(0, rectangle.getX());
+        assertEquals(Collections.singletonList(rectangle), grid.query(0, 0, 1, 1));
+    }
+
+    private static List<Placed> randomFigures(Random random, int count, double extent) {
+        List<Placed> figures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * extent;
+            double y = random.nextDouble() * extent;
+            // a few figures are larger than MAX_CELLS_PER_FIGURE cells
+            double size = i % 50 == 0 ? 30 : random.nextDouble() * 4;
+            if (random.nextBoolean()) {
+                figures.add(new Circle(x, y, size / 2));
+            } else {
+                figures.add(new Rectangle(x, y, size, random.nextDouble() * 4));
+            }
+        }
+        return figures;
+    }
+
+    private static Set<Placed> bruteForceQuery(List<Placed> figures, double minX, double minY, double maxX, double maxY) {
+        Rectangle box = new Rectangle(minX, minY, maxX - minX, maxY - minY);
+        Set<Placed> expected = identitySet();
+        for (Placed figure : figures) {
+            if (FigureGrid.overlaps(figure, box)) {
+                expected.add(figure);
+            }
+        }
+        return expected;
+    }
+
+    private static void assertOverlapsMatch(FigureGrid grid, List<Placed> figures) {
+        Map<Placed, Integer> index = new IdentityHashMap<>();
+        for (Placed figure : figures) {
+            index.put(figure, index.size());
+        }
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < figures.size(); i++) {
+            for (int j = i + 1; j < figures.size(); j++) {
+                if (FigureGrid.overlaps(figures.get(i), figures.get(j))) {
+                    expected.add(pair(i, j));
+                }
+            }
+        }
+        Set<Long> actual = new HashSet<>();
+        long count = grid.forEachOverlap((a, b) -> assertTrue(actual.add(pair(index.get(a), index.get(b)))));
+
+        assertEquals(expected.size(), count);
+        assertEquals(expected, actual);
+    }
+
+    private static long pair(int i, int j) {
+        return (long) Math.min(i, j) << 32 | Math.max(i, j);
+    }
+
+    private static Set<Placed> identitySet(Placed... figures) {
+        Set<Placed> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(set, figures);
+        return set;
+    }
+
+    private static Set<Placed> identitySet(List<Placed> figures) {
+        Set<Placed> set = identitySet();
+        set.addAll(figures);
+        assertEquals(figures.size(), set.size(), "duplicates in " + figures);
+        return set;
+    }
+}
@@ -0,0 +1,101 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelFiguresTest {
+    /** Several leaves of THRESHOLD figures plus a partial one. */
+    private static final int COUNT = 5 * ParallelFigures.THRESHOLD + 123;
+
+    @Test
+    void sameSeedGivesSameFiguresAndTotal() {
+        AreaCalculable[] first = ParallelFigures.generate(COUNT, 42);
+        AreaCalculable[] second = ParallelFigures.generate(COUNT, 42);
+        assertSameFigures(first, second);
+        assertEquals(ParallelFigures.totalArea(first), ParallelFigures.totalArea(second));
+
+        FigureBatch batch = ParallelFigures.generateBatch(COUNT, 42);
+        assertSameFigures(first, batch.toArray());
+        assertEquals(ParallelFigures.totalArea(first), ParallelFigures.totalArea(batch));
+
+        AreaCalculable[] other = ParallelFigures.generate(COUNT, 43);
+        assertNotEquals(ParallelFigures.totalArea(first), ParallelFigures.totalArea(other));
+    }
+
+    @Test
+    void resultDoesNotDependOnParallelism() {
+        AreaCalculable[] expected = null;
+        double expectedTotal = 0;
+        for (int parallelism : new int[]{1, 2, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                AreaCalculable[] figures = ParallelFigures.generate(COUNT, 7, pool);
+                double total = ParallelFigures.totalArea(figures, pool);
+                assertEquals(total, ParallelFigures.totalArea(ParallelFigures.generateBatch(COUNT, 7, pool), pool));
+                if (expected == null) {
+                    expected = figures;
+                    expectedTotal = total;
+                } else {
+                    assertSameFigures(expected, figures);
+                    assertEquals(expectedTotal, total, "parallelism " + parallelism);
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void totalMatchesSequentialCompensatedSum() {
+        AreaCalculable[] figures = ParallelFigures.generate(COUNT, 1);
+        // mix in a few huge areas, so that a naive sum would lose the small ones
+        figures[0] = new Rectangle(1e9, 1e9);
+        figures[COUNT / 2] = new Rectangle(-1e9, 1e9);
+
+        double naive = 0;
+        double sum = 0;
+        double compensation = 0;
+        double absolute = 0;
+        BigDecimal exact = BigDecimal.ZERO;
+        for (AreaCalculable figure : figures) {
+            double area = figure.getArea();
+            naive += area;
+            double t = sum + area;
+            compensation += Math.abs(sum) >= Math.abs(area) ? (sum - t) + area : (area - t) + sum;
+            sum = t;
+            absolute += Math.abs(area);
+            exact = exact.add(new BigDecimal(area));
+        }
+        double sequential = sum + compensation;
+        double expected = exact.doubleValue();
+
+        // error bound of Neumaier summation: 2 eps |S| + n eps^2 sum |x|, with some slack
+        double eps = Math.ulp(1.0) / 2;
+        double bound = 4 * eps * Math.abs(expected) + 2 * COUNT * eps * eps * absolute;
+        double parallel = ParallelFigures.totalArea(figures);
+        assertEquals(expected, sequential, bound);
+        assertEquals(expected, parallel, bound);
+        assertTrue(Math.abs(naive - expected) > 1000 * bound, "naive sum should be far off: " + naive);
+    }
+
+    @Test
+    void emptyAndSmall() {
+        assertEquals(0, ParallelFigures.generate(0, 1).length);
+        assertEquals(0.0, ParallelFigures.totalArea(new AreaCalculable[0]));
+        AreaCalculable[] figures = ParallelFigures.generate(3, 1);
+        assertEquals(figures[0].getArea() + figures[1].getArea() + figures[2].getArea(),
+                ParallelFigures.totalArea(figures), 1e-15);
+    }
+
+    private static void assertSameFigures(AreaCalculable[] expected, AreaCalculable[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getClass(), actual[i].getClass(), "figure " + i);
+            assertEquals(expected[i].getArea(), actual[i].getArea(), "figure " + i);
+        }
+    }
+}
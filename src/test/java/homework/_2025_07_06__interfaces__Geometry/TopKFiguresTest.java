@@ -0,0 +1,109 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKFiguresTest {
+
+    @Test
+    void allVariantsMatchFullSort() {
+        Random random = new Random(42);
+        // few distinct sizes, so that there are many ties around the k-th area
+        AreaCalculable[] figures = new AreaCalculable[200_000];
+        for (int i = 0; i < figures.length; i++) {
+            double size = 1 + random.nextInt(random.nextBoolean() ? 50 : 5_000);
+            figures[i] = random.nextBoolean() ? new Circle(size) : new Rectangle(size, size);
+        }
+        double[] areas = areas(figures);
+
+        for (int k : new int[]{0, 1, 7, 100, 10_000, figures.length, figures.length + 5}) {
+            int[] expected = sorted(areas, k);
+            assertArrayEquals(expected, TopKFigures.largest(figures, k), "heap, k = " + k);
+            assertArrayEquals(expected, TopKFigures.largestParallel(figures, k), "parallel, k = " + k);
+            assertArrayEquals(expected, TopKFigures.select(areas, k), "select, k = " + k);
+        }
+    }
+
+    @Test
+    void tiesAreOrderedByIndex() {
+        double[] areas = {2, 5, 2, 5, 2, 1, 5};
+        assertArrayEquals(new int[]{1, 3, 6, 0, 2}, TopKFigures.select(areas, 5));
+        assertArrayEquals(new int[]{1, 3}, TopKFigures.select(areas, 2));
+
+        AreaCalculable[] figures = {new Rectangle(1, 2), new Rectangle(1, 5), new Rectangle(2, 1), new Rectangle(5, 1)};
+        assertArrayEquals(new int[]{1, 3, 0}, TopKFigures.largest(figures, 3));
+        assertArrayEquals(new int[]{1, 3, 0}, TopKFigures.largestParallel(figures, 3));
+    }
+
+    @Test
+    void hugeKAllocatesOnlyForTheFigures() {
+        Random random = new Random(7);
+        AreaCalculable[] figures = new AreaCalculable[3 * (1 << 16) + 11];
+        for (int i = 0; i < figures.length; i++) {
+            figures[i] = new Circle(random.nextInt(100));
+        }
+        double[] areas = areas(figures);
+        int[] expected = sorted(areas, figures.length);
+        assertArrayEquals(expected, TopKFigures.largest(figures, Integer.MAX_VALUE));
+        assertArrayEquals(expected, TopKFigures.largestParallel(figures, Integer.MAX_VALUE));
+        assertArrayEquals(expected, TopKFigures.select(areas, Integer.MAX_VALUE));
+
+        // a heap built for few figures grows when more are offered or merged
+        TopKFigures top = new TopKFigures(Integer.MAX_VALUE, 1);
+        TopKFigures other = new TopKFigures(Integer.MAX_VALUE);
+        for (int i = 0; i < 100; i++) {
+            (i % 2 == 0 ? top : other).offer(i, areas[i]);
+        }
+        top.merge(other);
+        assertEquals(100, top.size());
+        assertEquals(Double.NEGATIVE_INFINITY, top.threshold());
+        assertArrayEquals(sorted(Arrays.copyOf(areas, 100), 100), top.indices());
+    }
+
+    @Test
+    void offerMergeAndThreshold() {
+        TopKFigures top = new TopKFigures(3);
+        assertEquals(Double.NEGATIVE_INFINITY, top.threshold());
+        top.offer(0, 4);
+        top.offer(1, 9);
+        assertEquals(Double.NEGATIVE_INFINITY, top.threshold());
+        top.offer(2, 1);
+        assertEquals(1, top.threshold());
+
+        TopKFigures other = new TopKFigures(3);
+        other.offer(3, 7);
+        other.offer(4, 4);
+        top.merge(other);
+        assertEquals(3, top.size());
+        assertEquals(4, top.threshold());
+        assertArrayEquals(new int[]{1, 3, 0}, top.indices());
+        // indices() does not consume the heap
+        assertArrayEquals(new int[]{1, 3, 0}, top.indices());
+
+        assertThrows(IllegalArgumentException.class, () -> new TopKFigures(-1));
+        assertThrows(IllegalArgumentException.class, () -> TopKFigures.select(new double[1], -1));
+    }
+
+    private static double[] areas(AreaCalculable[] figures) {
+        double[] areas = new double[figures.length];
+        for (int i = 0; i < figures.length; i++) {
+            areas[i] = figures[i].getArea();
+        }
+        return areas;
+    }
+
+    /**
+     * Reference: all indices sorted by area descending, then index ascending.
+     */
+    private static int[] sorted(double[] areas, int k) {
+        Integer[] order = IntStream.range(0, areas.length).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> areas[i]).reversed().thenComparingInt(i -> i));
+        return Arrays.stream(order, 0, Math.min(k, areas.length)).mapToInt(Integer::intValue).toArray();
+    }
+}
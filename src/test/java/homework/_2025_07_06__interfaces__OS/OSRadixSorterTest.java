@@ -0,0 +1,73 @@
+package homework._2025_07_06__interfaces__OS;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OSRadixSorterTest {
+    private static final String[] NAMES = {"Windows", "Linux", "macOS", "Android", "iOS", "FreeBSD", "linux", ""};
+
+    @Test
+    void allOrdersMatchStableComparatorSort() {
+        Random random = new Random(42);
+        OS[] os = new OS[20_000];
+        for (int i = 0; i < os.length; i++) {
+            // small versions with many duplicates, some negative and some large ones
+            int version = random.nextInt(10) == 0 ? random.nextInt(2_000_000) - 1_000_000 : random.nextInt(30) - 5;
+            os[i] = new OS(NAMES[random.nextInt(NAMES.length)], version);
+        }
+
+        assertSortedLike(os, OSRadixSorter.Order.ASCENDING, Comparator.naturalOrder());
+        assertSortedLike(os, OSRadixSorter.Order.DESCENDING, new OSDescComparator<OS>()::compare);
+        assertSortedLike(os, OSRadixSorter.Order.VERSION, new OSVersionComparator()::compare);
+        assertSortedLike(os, OSRadixSorter.Order.VERSION_DESCENDING, new OSVersionComparator().reversed()::compare);
+    }
+
+    @Test
+    void sortMovesElementsInPlace() {
+        OS a = new OS("Linux", 5);
+        OS b = new OS("Linux", 3);
+        OS c = new OS("Android", 9);
+        OS d = new OS("Linux", 3);
+        OS[] os = {a, b, c, d};
+
+        OSRadixSorter.sort(os, OSRadixSorter.Order.ASCENDING);
+        assertArrayEquals(new OS[]{c, b, d, a}, os);
+        OSRadixSorter.sort(os, OSRadixSorter.Order.DESCENDING);
+        assertArrayEquals(new OS[]{a, b, d, c}, os);
+        OSRadixSorter.sort(os, OSRadixSorter.Order.VERSION_DESCENDING);
+        assertArrayEquals(new OS[]{c, a, b, d}, os);
+        OSRadixSorter.sort(os, OSRadixSorter.Order.VERSION);
+        assertArrayEquals(new OS[]{b, d, a, c}, os);
+    }
+
+    @Test
+    void emptyAndSingle() {
+        for (OSRadixSorter.Order order : OSRadixSorter.Order.values()) {
+            assertArrayEquals(new int[0], OSRadixSorter.permutation(new OS[0], order));
+            assertArrayEquals(new int[]{0}, OSRadixSorter.permutation(new OS[]{new OS("Linux", 1)}, order));
+        }
+    }
+
+    private static void assertSortedLike(OS[] os, OSRadixSorter.Order order, Comparator<OS> comparator) {
+        OS[] copy = os.clone();
+        Integer[] expected = new Integer[os.length];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i;
+        }
+        Arrays.sort(expected, (i, j) -> comparator.compare(os[i], os[j]));
+
+        int[] permutation = OSRadixSorter.permutation(os, order);
+        assertArrayEquals(copy, os, "permutation must not modify the array");
+        assertArrayEquals(Arrays.stream(expected).mapToInt(Integer::intValue).toArray(), permutation, order.name());
+
+        OSRadixSorter.sort(copy, order);
+        for (int i = 0; i < copy.length; i++) {
+            assertSame(os[expected[i]], copy[i]);
+        }
+    }
+}
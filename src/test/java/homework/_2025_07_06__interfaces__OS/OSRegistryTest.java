@@ -0,0 +1,124 @@
+package homework._2025_07_06__interfaces__OS;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OSRegistryTest {
+
+    @Test
+    void findsByNameAndVersionRange() {
+        OSRegistry registry = new OSRegistry();
+        OS linux3 = new OS("Linux", 3);
+        OS linux5 = new OS("Linux", 5);
+        OS otherLinux5 = new OS("Linux", 5);
+        OS linuxMin = new OS("Linux", Integer.MIN_VALUE);
+        OS android = new OS("Android", 9);
+        registry.register(linux5, linux3, otherLinux5, android, linuxMin);
+        registry.register(linux5);
+
+        assertEquals(5, registry.size());
+        assertEquals(Arrays.asList(linuxMin, linux3, linux5, otherLinux5), registry.find("Linux"));
+        assertEquals(Arrays.asList(linux3, linux5, otherLinux5), registry.find("Linux", 3, 5));
+        assertEquals(Arrays.asList(linux5, otherLinux5), registry.find("Linux", 4, Integer.MAX_VALUE));
+        assertEquals(Arrays.asList(linuxMin), registry.find("Linux", Integer.MIN_VALUE, 2));
+        assertTrue(registry.find("Linux", 6, 4).isEmpty());
+        assertTrue(registry.find("macOS").isEmpty());
+        assertTrue(registry.contains(otherLinux5));
+        assertFalse(registry.contains(new OS("Linux", 5)));
+
+        registry.unregister(linux5, android, new OS("Linux", 3));
+        assertEquals(Arrays.asList(linuxMin, linux3, otherLinux5), registry.find("Linux"));
+        assertFalse(registry.names().contains("Android"));
+        assertEquals(3, registry.size());
+    }
+
+    @Test
+    void concurrentRegisterAndLookup() throws Exception {
+        int writers = 4;
+        int perWriter = 500;
+        OSRegistry registry = new OSRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            List<Future<List<OS>>> written = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                String name = w % 2 == 0 ? "Linux" : "Windows";
+                int writer = w;
+                written.add(executor.submit(() -> {
+                    start.await();
+                    List<OS> kept = new ArrayList<>();
+                    for (int i = 0; i < perWriter; i++) {
+                        OS os = new OS(name, (i * 7919 + writer) % 1_000);
+                        registry.register(os);
+                        assertTrue(registry.contains(os), "own write must be visible on return");
+                        // every third system is removed again
+                        if (i % 3 == 0) {
+                            registry.unregister(os);
+                            assertFalse(registry.contains(os));
+                        } else {
+                            kept.add(os);
+                        }
+                    }
+                    return kept;
+                }));
+            }
+
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    while (!done.get()) {
+                        for (String name : new String[]{"Linux", "Windows"}) {
+                            assertSortedByVersion(registry.find(name));
+                            List<OS> range = registry.find(name, 100, 199);
+                            assertSortedByVersion(range);
+                            for (OS os : range) {
+                                assertTrue(os.getVersion() >= 100 && os.getVersion() <= 199);
+                            }
+                        }
+                        Thread.yield();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            List<OS> expected = new ArrayList<>();
+            for (Future<List<OS>> future : written) {
+                expected.addAll(future.get(60, TimeUnit.SECONDS));
+            }
+            done.set(true);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+
+            assertEquals(expected.size(), registry.size());
+            for (OS os : expected) {
+                assertTrue(registry.contains(os));
+            }
+            assertSortedByVersion(registry.find("Linux"));
+            assertEquals(expected.size(), registry.find("Linux").size() + registry.find("Windows").size());
+        } finally {
+            done.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertSortedByVersion(List<OS> systems) {
+        for (int i = 1; i < systems.size(); i++) {
+            assertTrue(systems.get(i - 1).getVersion() <= systems.get(i).getVersion(), systems.toString());
+        }
+    }
+}
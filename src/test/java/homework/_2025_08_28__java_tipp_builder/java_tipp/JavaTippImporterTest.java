@@ -0,0 +1,127 @@
+package homework._2025_08_28__java_tipp_builder.java_tipp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JavaTippImporterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parsesLinesWithCrlfBlankAndMalformedLines() throws IOException {
+        Path file = write(("Streams sind lazy\tStreams, Lambdas\r\n"
+                + "\r\n"
+                + "   \n"
+                + "Ohne Topics\n"
+                + "\t, ,,\n"
+                + "Zwei\tTabs\tA\r\n"
+                + "Gr\u00fc\u00dfe\tUmlaute").getBytes(StandardCharsets.UTF_8));
+
+        List<String> tipps = importSorted(file, ForkJoinPool.commonPool(), 1 << 20);
+        List<String> expected = new ArrayList<>();
+        expected.add(describe("Streams sind lazy", "Streams", "Lambdas"));
+        expected.add(describe("Ohne Topics"));
+        // malformed: no text and only empty topics
+        expected.add(describe(""));
+        // malformed: a second tab belongs to the topic
+        expected.add(describe("Zwei", "Tabs\tA"));
+        expected.add(describe("Gr\u00fc\u00dfe", "Umlaute"));
+        Collections.sort(expected);
+        assertEquals(expected, tipps);
+    }
+
+    @Test
+    void invalidUtf8IsReplacedAndDoesNotStopTheImport() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write("vorher\n".getBytes(StandardCharsets.UTF_8));
+        bytes.write(new byte[]{'a', (byte) 0xC3, '\t', 'T', '\n'});
+        bytes.write("nachher\tT\n".getBytes(StandardCharsets.UTF_8));
+
+        List<String> tipps = importSorted(write(bytes.toByteArray()), ForkJoinPool.commonPool(), 1 << 20);
+        assertEquals(3, tipps.size());
+        assertTrue(tipps.contains(describe("a\ufffd", "T")));
+        assertTrue(tipps.contains(describe("nachher", "T")));
+    }
+
+    @Test
+    void chunkBordersDoNotLoseOrSplitLines() throws IOException {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String line;
+            switch (random.nextInt(4)) {
+                case 0:
+                    line = "";
+                    break;
+                case 1:
+                    line = "Tipp " + i + " \u00e4\u00f6\u00fc";
+                    break;
+                default:
+                    line = "Tipp " + i + "\tT" + random.nextInt(5) + ",T" + random.nextInt(5);
+            }
+            text.append(line).append(random.nextBoolean() ? "\r\n" : "\n");
+            JavaTipp tipp = JavaTippImporter.parseLine(line);
+            if (tipp != null) {
+                expected.add(describe(tipp));
+            }
+        }
+        Collections.sort(expected);
+        Path file = write(text.toString().getBytes(StandardCharsets.UTF_8));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long chunkSize : new long[]{1, 7, 100, 4097, 1 << 20}) {
+                assertEquals(expected, importSorted(file, pool, chunkSize), "chunk size " + chunkSize);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void emptyFile() throws IOException {
+        assertEquals(0, JavaTippImporter.importFile(write(new byte[0]), tipp -> fail()));
+    }
+
+    private Path write(byte[] bytes) throws IOException {
+        Path file = Files.createTempFile(dir, "tipps", ".txt");
+        Files.write(file, bytes);
+        return file;
+    }
+
+    /**
+     * The chunks arrive in no particular order, so the tips are compared sorted.
+     */
+    private static List<String> importSorted(Path file, ForkJoinPool pool, long chunkSize) throws IOException {
+        List<String> tipps = new ArrayList<>();
+        long count = JavaTippImporter.importFile(file, tipp -> tipps.add(describe(tipp)), pool, chunkSize);
+        assertEquals(tipps.size(), count);
+        Collections.sort(tipps);
+        return tipps;
+    }
+
+    private static String describe(JavaTipp tipp) {
+        return tipp.getText() + "|" + tipp.getTopics();
+    }
+
+    private static String describe(String text, String... topics) {
+        List<String> list = new ArrayList<>();
+        Collections.addAll(list, topics);
+        return text + "|" + list;
+    }
+}
@@ -0,0 +1,81 @@
+package homework._2025_08_28__java_tipp_builder.java_tipp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JavaTippQueryPlannerTest {
+    private static final String[] TOPICS = {"Streams", "Generics", "Lambdas", "Records", "Never used"};
+
+    @Test
+    void plannerMatchesFilter() {
+        Random random = new Random(42);
+        JavaTipp[] tipps = new JavaTipp[400];
+        for (int i = 0; i < tipps.length; i++) {
+            JavaTippBuilder builder = JavaTippBuilder.builder()
+                    .withText(i % 20 == 0 ? null : JavaTippTextIndexTest.randomText(random, random.nextInt(30)));
+            for (int t = 0; t < TOPICS.length - 1; t++) {
+                if (random.nextInt(3) == 0) builder.withTopic(TOPICS[t]);
+            }
+            tipps[i] = builder.build();
+        }
+        JavaTippIndex topicIndex = new JavaTippIndex(tipps);
+        JavaTippQueryPlanner withTextIndex = new JavaTippQueryPlanner(topicIndex, new JavaTippTextIndex(tipps));
+        JavaTippQueryPlanner withoutTextIndex = new JavaTippQueryPlanner(topicIndex);
+
+        for (int i = 0; i < 500; i++) {
+            JavaTippQuery query = randomQuery(random, 3);
+            BitSet expected = new BitSet();
+            for (int id = 0; id < tipps.length; id++) {
+                if (query.filter(tipps[id])) expected.set(id);
+            }
+            assertEquals(expected, withTextIndex.execute(query), query.toString());
+            assertEquals(expected, withoutTextIndex.execute(query), query.toString());
+            // cached plan
+            assertEquals(expected, withTextIndex.execute(query), query.toString());
+        }
+    }
+
+    @Test
+    void planCacheIsBounded() {
+        JavaTippIndex topicIndex = new JavaTippIndex(JavaTippBuilder.builder().withText("Hallo").withTopic("Streams").build());
+        JavaTippQueryPlanner planner = new JavaTippQueryPlanner(topicIndex);
+
+        for (int i = 0; i < 3 * JavaTippQueryPlanner.MAX_CACHED_PLANS; i++) {
+            JavaTippQuery query = JavaTippQuery.and(JavaTippQuery.topic("Streams"), JavaTippQuery.text("Hallo" + i));
+            assertTrue(planner.execute(query).isEmpty());
+            assertTrue(planner.cachedPlans() <= JavaTippQueryPlanner.MAX_CACHED_PLANS);
+        }
+        assertEquals(1, planner.execute(JavaTippQuery.text("Hal")).cardinality());
+    }
+
+    private static JavaTippQuery randomQuery(Random random, int depth) {
+        int kind = random.nextInt(depth > 0 ? 5 : 2);
+        switch (kind) {
+            case 0:
+                return JavaTippQuery.topic(TOPICS[random.nextInt(TOPICS.length)]);
+            case 1:
+                // includes the empty text and texts shorter than a trigram
+                JavaTippTextIndex.Matching[] matchings = JavaTippTextIndex.Matching.values();
+                return JavaTippQuery.text(JavaTippTextIndexTest.randomText(random, random.nextInt(5)),
+                        matchings[random.nextInt(matchings.length)]);
+            case 2:
+                return JavaTippQuery.not(randomQuery(random, depth - 1));
+            case 3:
+                return JavaTippQuery.and(randomQueries(random, depth - 1));
+            default:
+                return JavaTippQuery.or(randomQueries(random, depth - 1));
+        }
+    }
+
+    private static JavaTippQuery[] randomQueries(Random random, int depth) {
+        JavaTippQuery[] queries = new JavaTippQuery[random.nextInt(4)];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = randomQuery(random, depth);
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,119 @@
+package homework._2025_08_28__java_tipp_builder.java_tipp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JavaTippTextIndexTest {
+    /** Small alphabet with upper case letters and umlauts, so that queries often match. */
+    private static final String ALPHABET = "abcAB \u00e4\u00c4\u00df";
+
+    @Test
+    void searchMatchesContains() {
+        Random random = new Random(42);
+        JavaTipp[] tipps = randomTipps(random, 500);
+        JavaTippTextIndex index = new JavaTippTextIndex(tipps);
+        assertEquals(tipps.length, index.size());
+
+        for (int i = 0; i < 300; i++) {
+            // includes the empty query and queries shorter than a trigram
+            String query = randomText(random, i % 6);
+            for (JavaTippTextIndex.Matching matching : JavaTippTextIndex.Matching.values()) {
+                BitSet expected = bruteForce(tipps, query, matching, null);
+                assertEquals(expected, index.search(query, matching), query + " " + matching);
+                assertTrue(index.estimate(query) >= expected.cardinality());
+            }
+        }
+    }
+
+    @Test
+    void searchOnlyConsidersCandidates() {
+        Random random = new Random(7);
+        JavaTipp[] tipps = randomTipps(random, 300);
+        JavaTippTextIndex index = new JavaTippTextIndex(tipps);
+
+        for (int i = 0; i < 100; i++) {
+            BitSet candidates = new BitSet();
+            for (int id = 0; id < tipps.length + 10; id++) {
+                if (random.nextInt(3) == 0) candidates.set(id);
+            }
+            BitSet copy = (BitSet) candidates.clone();
+            String query = randomText(random, i % 5);
+            for (JavaTippTextIndex.Matching matching : JavaTippTextIndex.Matching.values()) {
+                assertEquals(bruteForce(tipps, query, matching, candidates), index.search(query, matching, candidates),
+                        query + " " + matching);
+                assertEquals(copy, candidates, "candidates must not be modified");
+            }
+        }
+    }
+
+    @Test
+    void normalizedMatchesSpelledOutUmlauts() {
+        JavaTippTextIndex index = new JavaTippTextIndex(
+                tipp("Gr\u00fc\u00dfe aus M\u00fcnchen"),
+                tipp("Gruesse aus Muenchen"),
+                tipp(null),
+                tipp("Hallo"));
+
+        assertEquals(bits(0, 1), index.search("gr\u00fc\u00dfe", JavaTippTextIndex.Matching.NORMALIZED));
+        assertEquals(bits(1), index.search("gruesse", JavaTippTextIndex.Matching.IGNORE_CASE));
+        assertEquals(bits(), index.search("gruesse"));
+        assertEquals(bits(0, 1, 2, 3), index.search(""));
+        assertEquals(bits(), index.search("xyz"));
+        assertEquals(0, index.estimate("xyz"));
+    }
+
+    private static BitSet bruteForce(JavaTipp[] tipps, String query, JavaTippTextIndex.Matching matching, BitSet candidates) {
+        JavaTippQuery filter = JavaTippQuery.text(query, matching);
+        BitSet expected = new BitSet();
+        for (int id = 0; id < tipps.length; id++) {
+            String text = tipps[id].getText() == null ? "" : tipps[id].getText();
+            boolean matches;
+            switch (matching) {
+                case EXACT:
+                    matches = text.contains(query);
+                    break;
+                case IGNORE_CASE:
+                    matches = text.toLowerCase().contains(query.toLowerCase());
+                    break;
+                default:
+                    matches = filter.filter(tipps[id]);
+            }
+            if (matches && (candidates == null || candidates.get(id))) {
+                expected.set(id);
+            }
+        }
+        return expected;
+    }
+
+    static JavaTipp[] randomTipps(Random random, int count) {
+        JavaTipp[] tipps = new JavaTipp[count];
+        for (int i = 0; i < count; i++) {
+            tipps[i] = tipp(i % 20 == 0 ? null : randomText(random, random.nextInt(30)));
+        }
+        return tipps;
+    }
+
+    static String randomText(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+
+    private static JavaTipp tipp(String text) {
+        return JavaTippBuilder.builder().withText(text).build();
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
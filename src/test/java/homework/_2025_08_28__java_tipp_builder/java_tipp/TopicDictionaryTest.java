@@ -0,0 +1,48 @@
+package homework._2025_08_28__java_tipp_builder.java_tipp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopicDictionaryTest {
+
+    @Test
+    void concurrentInternGivesOneIdPerTopic() throws Exception {
+        TopicDictionary dictionary = TopicDictionary.INSTANCE;
+        int threads = 4;
+        int topics = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    int[] ids = new int[topics];
+                    for (int i = 0; i < topics; i++) {
+                        ids[i] = dictionary.intern("TopicDictionaryTest-" + i);
+                        assertEquals("TopicDictionaryTest-" + i, dictionary.name(ids[i]));
+                    }
+                    return ids;
+                }));
+            }
+            int[] expected = results.get(0).get();
+            for (Future<int[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+            for (int i = 0; i < topics; i++) {
+                assertEquals(expected[i], dictionary.idOf("TopicDictionaryTest-" + i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(dictionary.size() >= topics);
+        assertEquals(-1, dictionary.idOf("TopicDictionaryTest-unknown"));
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.name(dictionary.size()));
+    }
+}
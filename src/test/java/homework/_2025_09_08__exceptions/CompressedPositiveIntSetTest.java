@@ -0,0 +1,74 @@
+package homework._2025_09_08__exceptions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedPositiveIntSetTest {
+
+    @Test
+    void sortsAndRemovesDuplicates() {
+        CompressedPositiveIntSet set = CompressedPositiveIntSet.of(5, 3, 5, 1, Integer.MAX_VALUE, 3);
+        assertArrayEquals(new int[]{1, 3, 5, Integer.MAX_VALUE}, set.toArray());
+        assertEquals(4, set.size());
+    }
+
+    @Test
+    void rejectNotPositive() {
+        assertThrowsExactly(NotPositiveArgumentException.class, () -> CompressedPositiveIntSet.of(1, 0, 2));
+        assertThrowsExactly(IllegalArgumentException.class, () -> new CompressedPositiveIntSet.Builder().add(2).add(2));
+    }
+
+    @Test
+    void containsRankSelectMatchTreeSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+        int[] values = new int[5_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + random.nextInt(random.nextBoolean() ? 20_000 : Integer.MAX_VALUE - 1);
+            expected.add(values[i]);
+        }
+        CompressedPositiveIntSet set = CompressedPositiveIntSet.of(values);
+
+        assertEquals(expected.size(), set.size());
+        int rank = 0;
+        for (int value : expected) {
+            assertTrue(set.contains(value));
+            assertEquals(rank, set.rank(value));
+            assertEquals(value, set.select(rank));
+            rank++;
+        }
+        for (int i = 0; i < 5_000; i++) {
+            int probe = 1 + random.nextInt(30_000);
+            assertEquals(expected.contains(probe), set.contains(probe));
+            assertEquals(expected.headSet(probe).size(), set.rank(probe));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> set.select(set.size()));
+    }
+
+    @Test
+    void intersectAndUnion() {
+        Random random = new Random(7);
+        TreeSet<Integer> left = new TreeSet<>();
+        TreeSet<Integer> right = new TreeSet<>();
+        for (int i = 0; i < 3_000; i++) {
+            left.add(1 + random.nextInt(10_000));
+            right.add(1 + random.nextInt(100_000));
+        }
+        CompressedPositiveIntSet a = CompressedPositiveIntSet.of(left.stream().mapToInt(Integer::intValue).toArray());
+        CompressedPositiveIntSet b = CompressedPositiveIntSet.of(right.stream().mapToInt(Integer::intValue).toArray());
+
+        TreeSet<Integer> intersection = new TreeSet<>(left);
+        intersection.retainAll(right);
+        TreeSet<Integer> union = new TreeSet<>(left);
+        union.addAll(right);
+
+        assertArrayEquals(intersection.stream().mapToInt(Integer::intValue).toArray(), a.intersect(b).toArray());
+        assertArrayEquals(intersection.stream().mapToInt(Integer::intValue).toArray(), b.intersect(a).toArray());
+        assertArrayEquals(union.stream().mapToInt(Integer::intValue).toArray(), a.union(b).toArray());
+        assertEquals(0, a.intersect(CompressedPositiveIntSet.empty()).size());
+    }
+}
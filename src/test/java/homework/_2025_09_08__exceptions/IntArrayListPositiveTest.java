@@ -0,0 +1,99 @@
+package homework._2025_09_08__exceptions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntArrayListPositiveTest {
+
+    IntArrayListPositive list;
+
+    @BeforeEach
+    void setup() {
+        list = new IntArrayListPositive(2);
+    }
+
+    @Test
+    void addIntAndGetInt() {
+        list.addInt(42);
+        list.addInt(7);
+        list.addInt(13);
+        assertEquals(3, list.size());
+        assertEquals(42, list.getInt(0));
+        assertEquals(7, list.getInt(1));
+        assertEquals(13, list.getInt(2));
+    }
+
+    @Test
+    void addIntWithIndex() {
+        list.addInt(1);
+        list.addInt(3);
+        list.addInt(1, 2);
+        assertArrayEquals(new int[]{1, 2, 3}, list.toArray());
+    }
+
+    /**
+     * Keine 0-Werte und keine negativen Werte können gespeichert werden.
+     */
+    @Test
+    void rejectNotPositive() {
+        assertThrowsExactly(NotPositiveArgumentException.class, () -> list.addInt(0));
+        assertThrowsExactly(NotPositiveArgumentException.class, () -> list.addInt(-10));
+        assertThrowsExactly(NotPositiveArgumentException.class, () -> list.addInt(0, -1));
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void addAllArray() {
+        assertTrue(list.addAll(new int[]{5, 6, 7, 8, 9}));
+        assertArrayEquals(new int[]{5, 6, 7, 8, 9}, list.toArray());
+    }
+
+    /**
+     * Ein einziger ungültiger Wert lässt die Liste unverändert.
+     */
+    @Test
+    void addAllArrayIsAtomic() {
+        list.addInt(1);
+        assertThrowsExactly(NotPositiveArgumentException.class, () -> list.addAll(new int[]{2, 3, 0, 4}));
+        assertArrayEquals(new int[]{1}, list.toArray());
+    }
+
+    @Test
+    void getIntOutOfBounds() {
+        list.addInt(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(-1));
+    }
+
+    @Test
+    void addAllValidSkipsNotPositive() {
+        RejectReport report = list.addAllValid(new int[]{3, 0, 4, -1, 5});
+        assertArrayEquals(new int[]{3, 4, 5}, list.toArray());
+        assertEquals(3, report.getAcceptedCount());
+        assertArrayEquals(new int[]{1, 3}, report.getRejectedIndices());
+        assertEquals(2, report.getCount(RejectReport.Reason.NOT_POSITIVE));
+    }
+
+    @Test
+    void stacklessNeverCapturesTheStack() {
+        // no setStackTrace involved: an empty trace means fillInStackTrace did nothing
+        assertEquals(0, NotPositiveArgumentException.stackless().getStackTrace().length);
+        assertTrue(new NotPositiveArgumentException().getStackTrace().length > 0);
+    }
+
+    @Test
+    void fastFailThrowsStacklessException() {
+        list.setValidationMode(ValidationMode.FAST_FAIL);
+        Exception e1 = assertThrows(NotPositiveArgumentException.class, () -> list.addInt(0));
+        Exception e2 = assertThrows(NotPositiveArgumentException.class, () -> list.addAll(new int[]{1, -1}));
+        assertNotSame(e1, e2);
+        assertEquals(0, e1.getStackTrace().length);
+        assertEquals(0, e2.getStackTrace().length);
+        assertEquals(0, list.size());
+
+        e1.addSuppressed(new RuntimeException());
+        assertEquals(0, e2.getSuppressed().length);
+    }
+}
@@ -0,0 +1,46 @@
+package homework._2025_09_08__exceptions;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapIntListPositiveTest {
+
+    @Test
+    void addAcrossSegments() {
+        try (OffHeapIntListPositive list = new OffHeapIntListPositive(4)) {
+            for (int i = 1; i <= 20; i++) {
+                list.addInt(i);
+            }
+            int[] bulk = new int[50];
+            for (int i = 0; i < bulk.length; i++) {
+                bulk[i] = 21 + i;
+            }
+            list.addAll(bulk);
+
+            assertEquals(70, list.size());
+            for (long i = 0; i < list.size(); i++) {
+                assertEquals(i + 1, list.getInt(i));
+            }
+        }
+    }
+
+    @Test
+    void rejectNotPositive() {
+        try (OffHeapIntListPositive list = new OffHeapIntListPositive()) {
+            assertThrowsExactly(NotPositiveArgumentException.class, () -> list.addInt(-5));
+            assertThrowsExactly(NotPositiveArgumentException.class, () -> list.addAll(new int[]{3, 0}));
+            assertEquals(0, list.size());
+        }
+    }
+
+    @Test
+    void notUsableAfterClose() {
+        OffHeapIntListPositive list = new OffHeapIntListPositive();
+        list.addInt(1);
+        list.close();
+        list.close();
+        assertThrowsExactly(IllegalStateException.class, () -> list.getInt(0));
+        assertThrowsExactly(IllegalStateException.class, () -> list.addInt(2));
+    }
+}
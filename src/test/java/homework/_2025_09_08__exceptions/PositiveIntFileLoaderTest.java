@@ -0,0 +1,82 @@
+package homework._2025_09_08__exceptions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositiveIntFileLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void loadInt32LittleEndian() throws IOException {
+        int[] values = new int[10_000];
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i + 1;
+            buffer.putInt(values[i]);
+        }
+        Path file = Files.write(tempDir.resolve("ids.bin"), buffer.array());
+
+        assertArrayEquals(values, PositiveIntFileLoader.load(file, PositiveIntFileLoader.Format.INT32_LE).toArray());
+        assertArrayEquals(values, PositiveIntFileLoader.load(file, PositiveIntFileLoader.Format.INT32_LE, true).toArray());
+    }
+
+    @Test
+    void loadDecimalLines() throws IOException {
+        int[] values = new int[10_000];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 7919 + 1;
+            sb.append(values[i]).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        sb.append("\n2147483647");
+        int[] expected = Arrays.copyOf(values, values.length + 1);
+        expected[values.length] = Integer.MAX_VALUE;
+        Path file = Files.write(tempDir.resolve("ids.txt"), sb.toString().getBytes(StandardCharsets.US_ASCII));
+
+        assertArrayEquals(expected, PositiveIntFileLoader.load(file, PositiveIntFileLoader.Format.DECIMAL_LINES).toArray());
+        assertArrayEquals(expected, PositiveIntFileLoader.load(file, PositiveIntFileLoader.Format.DECIMAL_LINES, true).toArray());
+    }
+
+    @Test
+    void rejectNotPositiveDecimal() throws IOException {
+        Path file = Files.write(tempDir.resolve("bad.txt"), "1\n2\n-3\n".getBytes(StandardCharsets.US_ASCII));
+        Exception e = assertThrowsExactly(NotPositiveArgumentException.class,
+                () -> PositiveIntFileLoader.load(file, PositiveIntFileLoader.Format.DECIMAL_LINES));
+        assertTrue(e.getMessage().contains("byte offset 4"));
+
+        Path zero = Files.write(tempDir.resolve("zero.txt"), "0\n".getBytes(StandardCharsets.US_ASCII));
+        assertThrowsExactly(NotPositiveArgumentException.class,
+                () -> PositiveIntFileLoader.load(zero, PositiveIntFileLoader.Format.DECIMAL_LINES));
+    }
+
+    @Test
+    void rejectMalformedDecimal() throws IOException {
+        Path file = Files.write(tempDir.resolve("bad.txt"), "1\n2x\n".getBytes(StandardCharsets.US_ASCII));
+        assertThrowsExactly(NumberFormatException.class,
+                () -> PositiveIntFileLoader.load(file, PositiveIntFileLoader.Format.DECIMAL_LINES));
+
+        Path tooLarge = Files.write(tempDir.resolve("large.txt"), "2147483648\n".getBytes(StandardCharsets.US_ASCII));
+        assertThrowsExactly(NumberFormatException.class,
+                () -> PositiveIntFileLoader.load(tooLarge, PositiveIntFileLoader.Format.DECIMAL_LINES));
+    }
+
+    @Test
+    void rejectNotPositiveInt32() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(5).putInt(0);
+        Path file = Files.write(tempDir.resolve("bad.bin"), buffer.array());
+        assertThrowsExactly(NotPositiveArgumentException.class,
+                () -> PositiveIntFileLoader.load(file, PositiveIntFileLoader.Format.INT32_LE, true));
+    }
+}
@@ -0,0 +1,47 @@
+package homework._2025_09_08__exceptions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedIntListPositiveTest {
+
+    @Test
+    void concurrentWritersLoseNothing() throws InterruptedException {
+        StripedIntListPositive list = new StripedIntListPositive(4);
+        int threads = 8;
+        int perThread = 10_000;
+
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            writers[t] = new Thread(() -> {
+                for (int i = 1; i <= perThread; i++) {
+                    list.addInt(base + i);
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertEquals(threads * perThread, list.size());
+        int[] values = list.toArray();
+        Arrays.sort(values);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i + 1, values[i]);
+        }
+    }
+
+    @Test
+    void rejectNotPositive() {
+        StripedIntListPositive list = new StripedIntListPositive();
+        assertThrowsExactly(NotPositiveArgumentException.class, () -> list.addInt(0));
+        assertThrowsExactly(NotPositiveArgumentException.class, () -> list.addAll(new int[]{1, -1}));
+        assertEquals(0, list.size());
+        assertEquals(0, list.snapshot().size());
+    }
+}
@@ -33,4 +33,44 @@ public class DateParserTest {
         assertEquals(731, DateParser.diffBetweenDates(dateTo, dateFrom));
         assertEquals(731, DateParser.diffBetweenDates(dateFrom, dateTo));
     }
+
+    @Test
+    void testLocalizedStringIsMemoized() {
+        LocalDate date = LocalDate.of(2019, 1, 22);
+        assertSame(DateParser.localDateToFullGermanString(date), DateParser.localDateToFullGermanString(date));
+        assertEquals("Tuesday, January 22, 2019", DateParser.localDateToFullUSString(date));
+    }
+
+    @Test
+    void testBulkDiffBetweenDates() {
+        int count = 200_000;
+        int[] from = new int[count];
+        int[] to = new int[count];
+        long[] fromLong = new long[count];
+        long[] toLong = new long[count];
+        for (int i = 0; i < count; i++) {
+            from[i] = (i * 37) % 40_000;
+            to[i] = (i * 101) % 40_000;
+            fromLong[i] = from[i];
+            toLong[i] = to[i];
+        }
+
+        long[] sequential = new long[count];
+        long[] parallel = new long[count];
+        long[] sequentialLong = new long[count];
+        long[] parallelLong = new long[count];
+        DateParser.diffBetweenDates(from, to, sequential);
+        DateParser.parallelDiffBetweenDates(from, to, parallel);
+        DateParser.diffBetweenDates(fromLong, toLong, sequentialLong);
+        DateParser.parallelDiffBetweenDates(fromLong, toLong, parallelLong);
+
+        for (int i = 0; i < count; i += 997) {
+            long expected = DateParser.diffBetweenDates(LocalDate.ofEpochDay(from[i]), LocalDate.ofEpochDay(to[i]));
+            assertEquals(expected, sequential[i]);
+        }
+        assertArrayEquals(sequential, parallel);
+        assertArrayEquals(sequential, sequentialLong);
+        assertArrayEquals(sequential, parallelLong);
+        assertThrows(IllegalArgumentException.class, () -> DateParser.diffBetweenDates(new int[2], new int[1], new long[2]));
+    }
 }
@@ -0,0 +1,44 @@
+package homework._2025_09_10__exceptions_parse_date;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateStreamProcessorTest {
+
+    @Test
+    void processLines() throws IOException {
+        DateStreamProcessor processor = new DateStreamProcessor(LocalDate.of(2019, 1, 1));
+        StringWriter out = new StringWriter();
+
+        long count = processor.process(new StringReader("2019-01-22\r\n\n  2018-12-31 \nfoo\n2019-02-30"), out);
+
+        assertEquals(4, count);
+        assertEquals("2019-01-22\t2019-01-22\tDienstag, 22. Januar 2019\tTuesday, January 22, 2019\t21\n"
+                + "2018-12-31\t2018-12-31\tMontag, 31. Dezember 2018\tMonday, December 31, 2018\t1\n"
+                + "foo\tINVALID\n"
+                + "2019-02-30\tINVALID\n", out.toString());
+    }
+
+    @Test
+    void processMoreLinesThanOneBatch() throws IOException {
+        int lines = 20_000;
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            input.append(LocalDate.ofEpochDay(i)).append('\n');
+        }
+        DateStreamProcessor processor = new DateStreamProcessor(LocalDate.ofEpochDay(0));
+        StringWriter out = new StringWriter();
+
+        assertEquals(lines, processor.process(new StringReader(input.toString()), out));
+        String[] result = out.toString().split("\n");
+        assertEquals(lines, result.length);
+        assertTrue(result[lines - 1].endsWith("\t" + (lines - 1)));
+        assertTrue(result[12_345].startsWith(LocalDate.ofEpochDay(12_345) + "\t"));
+    }
+}
@@ -0,0 +1,90 @@
+package homework._2025_09_10__exceptions_parse_date;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IsoDateBulkParserTest {
+
+    private static final String[] ROWS = {
+            "2025-12-31", "2024-02-29", "2023-02-29", "2025-13-01", "2025-00-10", "2025-04-31",
+            "0000-01-01", "9999-12-31", "1970-01-01", "1600-02-29", "1900-02-29",
+            "2025-01-01Z", "2025-01-01+01:00", "+10000-01-01", "2025-1-01", "abcd-ef-gh", "2025/01/01", "",
+    };
+
+    @Test
+    void matchesIsoDate() {
+        StringBuilder text = new StringBuilder();
+        int[] offsets = new int[ROWS.length];
+        int[] lengths = new int[ROWS.length];
+        for (int i = 0; i < ROWS.length; i++) {
+            offsets[i] = text.length();
+            lengths[i] = ROWS[i].length();
+            text.append(ROWS[i]).append('\n');
+        }
+
+        int[] charResult = new int[ROWS.length];
+        BitSet charMalformed = new BitSet();
+        int charCount = IsoDateBulkParser.parse(text, offsets, lengths, ROWS.length, charResult, charMalformed);
+
+        int[] byteResult = new int[ROWS.length];
+        BitSet byteMalformed = new BitSet();
+        ByteBuffer bytes = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII));
+        int byteCount = IsoDateBulkParser.parse(bytes, offsets, lengths, ROWS.length, byteResult, byteMalformed);
+
+        int expectedMalformed = 0;
+        for (int i = 0; i < ROWS.length; i++) {
+            Long expected = parseOrNull(ROWS[i]);
+            if (expected == null) {
+                expectedMalformed++;
+                assertTrue(charMalformed.get(i), ROWS[i]);
+                assertTrue(byteMalformed.get(i), ROWS[i]);
+            } else {
+                assertFalse(charMalformed.get(i), ROWS[i]);
+                assertEquals(expected.intValue(), charResult[i], ROWS[i]);
+                assertEquals(expected.intValue(), byteResult[i], ROWS[i]);
+            }
+        }
+        assertEquals(expectedMalformed, charCount);
+        assertEquals(expectedMalformed, byteCount);
+    }
+
+    @Test
+    void randomDatesMatchLocalDate() {
+        Random random = new Random(1);
+        int count = 10_000;
+        StringBuilder text = new StringBuilder();
+        int[] offsets = new int[count];
+        int[] lengths = new int[count];
+        long[] expected = new long[count];
+        for (int i = 0; i < count; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(3_000_000) - 700_000);
+            expected[i] = date.toEpochDay();
+            offsets[i] = text.length();
+            text.append(date);
+            lengths[i] = text.length() - offsets[i];
+        }
+
+        int[] result = new int[count];
+        BitSet malformed = new BitSet();
+        assertEquals(0, IsoDateBulkParser.parse(text, offsets, lengths, count, result, malformed));
+        for (int i = 0; i < count; i++) {
+            assertEquals(expected[i], result[i]);
+        }
+    }
+
+    private static Long parseOrNull(String row) {
+        try {
+            return DateParser.parseString(row).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package homework._2025_09_10__exceptions_parse_date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalizedDateRendererTest {
+    private static final Locale[] LOCALES = {Locale.GERMANY, Locale.US, Locale.FRANCE, Locale.JAPAN};
+
+    @Test
+    void matchesFormatterForEveryMemoSize() {
+        Random random = new Random(42);
+        for (int memoSize : new int[]{0, 1, 3, 64, 1024}) {
+            LocalizedDateRenderer renderer = new LocalizedDateRenderer(memoSize);
+            for (int i = 0; i < 5_000; i++) {
+                // many repeats and slot collisions, also for negative epoch days
+                LocalDate date = LocalDate.ofEpochDay(random.nextInt(4_000) - 2_000);
+                Locale locale = LOCALES[random.nextInt(LOCALES.length)];
+                FormatStyle style = FormatStyle.values()[random.nextInt(FormatStyle.values().length)];
+                assertEquals(date.format(DateTimeFormatter.ofLocalizedDate(style).withLocale(locale)),
+                        renderer.render(date, locale, style), date + " " + locale + " " + style);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new LocalizedDateRenderer(-1));
+    }
+
+    @Test
+    void concurrentRenderingGivesTheFormattedDate() throws Exception {
+        LocalizedDateRenderer renderer = new LocalizedDateRenderer(16);
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long seed = t;
+                results.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 20_000; i++) {
+                        LocalDate date = LocalDate.ofEpochDay(20_000 + random.nextInt(64));
+                        Locale locale = LOCALES[random.nextInt(2)];
+                        assertEquals(date.format(DateTimeFormatter.ofLocalizedDate(FormatStyle.FULL).withLocale(locale)),
+                                renderer.renderFull(date, locale));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
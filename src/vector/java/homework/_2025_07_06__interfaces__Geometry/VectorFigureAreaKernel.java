@@ -0,0 +1,44 @@
+package homework._2025_07_06__interfaces__Geometry;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernel with the preferred vector width of the CPU (e.g. 4 doubles with AVX2, 8 with AVX-512).
+ * The operations are the same as in {@link ScalarFigureAreaKernel} (no fused multiply-add),
+ * so both kernels give exactly the same results.
+ * <p>
+ * Needs JDK 17+ with {@code --add-modules jdk.incubator.vector}; loaded by {@link FigureAreaKernels}.
+ */
+final class VectorFigureAreaKernel implements FigureAreaKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void areas(double[] radii, double[] widths, double[] heights, double[] out, int size) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(size); i < bound; i += SPECIES.length()) {
+            area(radii, widths, heights, i).intoArray(out, i);
+        }
+        for (; i < size; i++) {
+            out[i] = Math.PI * radii[i] * radii[i] + widths[i] * heights[i];
+        }
+    }
+
+    @Override
+    public void partsOfArea(double[] radii, double[] widths, double[] heights, double[] out, int size) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(size); i < bound; i += SPECIES.length()) {
+            area(radii, widths, heights, i).mul(0.5).intoArray(out, i);
+        }
+        for (; i < size; i++) {
+            out[i] = (Math.PI * radii[i] * radii[i] + widths[i] * heights[i]) * 0.5;
+        }
+    }
+
+    private static DoubleVector area(double[] radii, double[] widths, double[] heights, int i) {
+        DoubleVector r = DoubleVector.fromArray(SPECIES, radii, i);
+        DoubleVector w = DoubleVector.fromArray(SPECIES, widths, i);
+        DoubleVector h = DoubleVector.fromArray(SPECIES, heights, i);
+        return r.mul(Math.PI).mul(r).add(w.mul(h));
+    }
+}